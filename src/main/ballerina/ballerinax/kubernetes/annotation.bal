@@ -2,6 +2,7 @@ package ballerinax.kubernetes;
 
 @Description {value:"Kubernetes deployment configuration"}
 @Field {value:"name: Name of the deployment"}
+@Field {value:"kind: Workload kind (Deployment, StatefulSet, Job or CronJob)"}
 @Field {value:"labels: Labels for deployment"}
 @Field {value:"replicas: Number of replicas"}
 @Field {value:"enableLiveness: Enable or disable enableLiveness probe"}
@@ -19,8 +20,41 @@ package ballerinax.kubernetes;
 @Field {value:"baseImage: Base image for docker image building"}
 @Field {value:"push: Push to remote registry"}
 @Field {value:"dockerCertPath: Docker cert path."}
+@Field {value:"strategy: Deployment strategy (RollingUpdate or Recreate)"}
+@Field {value:"maxSurge: Maximum number or percentage of pods created above replicas during a rolling update"}
+@Field {value:"maxUnavailable: Maximum number or percentage of pods unavailable during a rolling update"}
+@Field {value:"preserveCapacity: Keep all replicas serving during rollouts by setting maxUnavailable to 0"}
+@Field {value:"minReadySeconds: Seconds a new pod should be ready before it is considered available"}
+@Field {value:"progressDeadlineSeconds: Seconds a rollout may make no progress before it is considered failed"}
+@Field {value:"revisionHistoryLimit: Number of old replica sets to retain for rollback"}
+@Field {value:"drainSeconds: Seconds a terminating pod keeps serving, marked not ready, before it is stopped"}
+@Field {value:"terminationGracePeriodSeconds: Seconds allowed for the pod to shut down gracefully"}
+@Field {value:"podAntiAffinity: Keep replicas apart from each other (preferred or required)"}
+@Field {value:"antiAffinityTopologyKey: Node label defining the domain replicas are kept apart in"}
+@Field {value:"topologySpreadKey: Node label to spread replicas evenly across (e.g. topology.kubernetes.io/zone)"}
+@Field {value:"maxSkew: Maximum difference in replica count between topology domains"}
+@Field {value:"whenUnsatisfiable: Scheduling action when the spread cannot be met (ScheduleAnyway or DoNotSchedule)"}
+@Field {value:"podAffinity: Labels of pods to be co-located with. One entry per dependency (e.g. \"app:redis\")"}
+@Field {value:"podAffinityWeight: Weight of the pod affinity preference (1-100)"}
+@Field {value:"podAffinityTopologyKey: Node label defining the domain pods are co-located in"}
+@Field {value:"nodeSelector: Node labels the pods must be scheduled on"}
+@Field {value:"requiredNodeAffinity: Node labels required by the node affinity"}
+@Field {value:"preferredNodeAffinity: Node labels preferred by the node affinity"}
+@Field {value:"tolerations: Node taints tolerated by the pods, in key[=value][:effect] format"}
+@Field {value:"schedule: Cron schedule of a CronJob"}
+@Field {value:"concurrencyPolicy: Handling of overlapping CronJob runs (Allow, Forbid or Replace)"}
+@Field {value:"parallelism: Number of job pods running in parallel"}
+@Field {value:"completions: Number of successful pods required to complete the job"}
+@Field {value:"indexedCompletion: Give every job pod a completion index from 0 to completions - 1"}
+@Field {value:"backoffLimit: Number of retries before the job is marked failed"}
+@Field {value:"activeDeadlineSeconds: Seconds the job may run before it is terminated"}
+@Field {value:"restartPolicy: Restart policy of job pods (OnFailure or Never)"}
+@Field {value:"projectedVolumes: Combine secrets and config maps sharing a mount path into one projected volume"}
+@Field {value:"immutableConfig: Append a content hash to secret and config map names and mark them immutable"}
+@Field {value:"maxConfigSize: Encoded size in bytes above which secrets and config maps are split into shards"}
 public struct DeploymentConfiguration {
     string name;
+    string kind;
     string labels;
     int replicas;
     string enableLiveness;
@@ -38,18 +72,68 @@ public struct DeploymentConfiguration {
     string baseImage;
     boolean push;
     string dockerCertPath;
+    string strategy;
+    string maxSurge;
+    string maxUnavailable;
+    boolean preserveCapacity;
+    int minReadySeconds;
+    int progressDeadlineSeconds;
+    int revisionHistoryLimit;
+    int drainSeconds;
+    int terminationGracePeriodSeconds;
+    string podAntiAffinity;
+    string antiAffinityTopologyKey;
+    string topologySpreadKey;
+    int maxSkew;
+    string whenUnsatisfiable;
+    string[] podAffinity;
+    int podAffinityWeight;
+    string podAffinityTopologyKey;
+    string nodeSelector;
+    string requiredNodeAffinity;
+    string preferredNodeAffinity;
+    string[] tolerations;
+    string schedule;
+    string concurrencyPolicy;
+    int parallelism;
+    int completions;
+    boolean indexedCompletion;
+    int backoffLimit;
+    int activeDeadlineSeconds;
+    string restartPolicy;
+    boolean projectedVolumes;
+    boolean immutableConfig;
+    int maxConfigSize;
 }
 
 @Description {value:"Deployment annotation for Kubernetes"}
-public annotation <service,endpoint> Deployment DeploymentConfiguration;
+public annotation <service,endpoint,function> Deployment DeploymentConfiguration;
 
 @Description {value:"Kubernetes service configuration"}
 @Field {value:"labels: Labels for service"}
 @Field {value:"serviceType: Service type of the service"}
+@Field {value:"portName: Name of the service and container port"}
+@Field {value:"consolidate: Merge into one multi-port service with other consolidated endpoints of the same settings"}
+@Field {value:"externalTrafficPolicy: Routing of external traffic (Local or Cluster)"}
+@Field {value:"internalTrafficPolicy: Routing of cluster internal traffic (Local or Cluster)"}
+@Field {value:"topologyAwareRouting: Prefer endpoints in the same zone as the client"}
+@Field {value:"sessionAffinity: Session affinity of the service (ClientIP or None)"}
+@Field {value:"sessionAffinityTimeout: Seconds a ClientIP session affinity is kept"}
+@Field {value:"headless: Create a headless service resolving to pod addresses for client-side load balancing"}
+@Field {value:"publishNotReadyAddresses: Publish addresses of pods that are not ready"}
 public struct ServiceConfiguration {
     string name;
     string labels;
     string serviceType;
+    string portName;
+    boolean consolidate;
+    string externalTrafficPolicy;
+    string internalTrafficPolicy;
+    boolean topologyAwareRouting;
+    string sessionAffinity;
+    int sessionAffinityTimeout;
+    boolean headless;
+    boolean publishNotReadyAddresses;
 }
 
 @Description {value:"Service annotation for Kubernetes"}
@@ -63,6 +147,32 @@ public annotation <endpoint> SVC ServiceConfiguration;
 @Field {value:"targetPath: Target path for url rewrite"}
 @Field {value:"ingressClass: Ingress class"}
 @Field {value:"enableTLS: Enable ingress TLS"}
+@Field {value:"backendProtocol: Protocol of the backend service (HTTP, HTTPS, GRPC or GRPCS)"}
+@Field {value:"consolidate: Merge into one ingress with the other consolidated ingresses of the hostname"}
+@Field {value:"tlsMode: TLS mode (passthrough, edge or reencrypt)"}
+@Field {value:"tlsSecretName: TLS secret used when terminating TLS at the ingress"}
+@Field {value:"sslSessionTimeout: TLS session reuse timeout (e.g. 10m)"}
+@Field {value:"sslSessionTickets: Enable TLS session tickets"}
+@Field {value:"http2MaxConcurrentStreams: Maximum concurrent HTTP/2 streams per connection"}
+@Field {value:"enableCache: Cache GET and HEAD responses at the ingress"}
+@Field {value:"cacheZone: Cache zone declared with proxy_cache_path on the ingress controller"}
+@Field {value:"cachePaths: Literal path prefixes to cache, all paths when empty"}
+@Field {value:"cacheTTL: Time to cache successful responses (e.g. 1m)"}
+@Field {value:"cacheKey: Cache key of responses"}
+@Field {value:"limitRps: Requests per second allowed from a client IP"}
+@Field {value:"limitRpm: Requests per minute allowed from a client IP"}
+@Field {value:"limitBurstMultiplier: Burst size as a multiple of the request rate limit"}
+@Field {value:"limitConnections: Concurrent connections allowed from a client IP"}
+@Field {value:"limitAllowList: Client CIDRs exempt from the limits"}
+@Field {value:"tuningPreset: Upstream tuning preset (high-throughput or low-latency)"}
+@Field {value:"upstreamKeepalive: Reuse upstream connections by proxying over HTTP/1.1"}
+@Field {value:"proxyBuffering: Buffer upstream responses"}
+@Field {value:"proxyBufferSize: Size of the buffer for the response headers (e.g. 16k)"}
+@Field {value:"proxyBuffersNumber: Number of response buffers"}
+@Field {value:"proxyConnectTimeout: Upstream connect timeout in seconds"}
+@Field {value:"proxySendTimeout: Upstream send timeout in seconds"}
+@Field {value:"proxyReadTimeout: Upstream read timeout in seconds"}
+@Field {value:"proxyBodySize: Maximum client request body size (e.g. 64m)"}
 public struct IngressConfiguration {
     string name;
     string labels;
@@ -71,6 +181,32 @@ public struct IngressConfiguration {
     string targetPath;
     string ingressClass;
     boolean enableTLS;
+    string backendProtocol;
+    boolean consolidate;
+    string tlsMode;
+    string tlsSecretName;
+    string sslSessionTimeout;
+    boolean sslSessionTickets;
+    int http2MaxConcurrentStreams;
+    boolean enableCache;
+    string cacheZone;
+    string[] cachePaths;
+    string cacheTTL;
+    string cacheKey;
+    int limitRps;
+    int limitRpm;
+    int limitBurstMultiplier;
+    int limitConnections;
+    string[] limitAllowList;
+    string tuningPreset;
+    boolean upstreamKeepalive;
+    boolean proxyBuffering;
+    string proxyBufferSize;
+    int proxyBuffersNumber;
+    int proxyConnectTimeout;
+    int proxySendTimeout;
+    int proxyReadTimeout;
+    string proxyBodySize;
 }
 @Description {value:"Ingress annotation for Kubernetes"}
 public annotation <service> Ingress IngressConfiguration;
@@ -81,12 +217,32 @@ public annotation <service> Ingress IngressConfiguration;
 @Field {value:"minReplicas: Minimum number of replicas"}
 @Field {value:"maxReplicas: Maximum number of replicas"}
 @Field {value:"cpuPercentage: CPU percentage to start scaling"}
+@Field {value:"scaleUpStabilizationWindowSeconds: Seconds of past recommendations considered when scaling up"}
+@Field {value:"scaleUpPercent: Maximum percentage of current replicas added per scale up period"}
+@Field {value:"scaleUpPods: Maximum number of pods added per scale up period"}
+@Field {value:"scaleUpPeriodSeconds: Period in seconds of the scale up policies"}
+@Field {value:"scaleUpSelectPolicy: Scale up policy to apply when several are set (Max, Min or Disabled)"}
+@Field {value:"scaleDownStabilizationWindowSeconds: Seconds of past recommendations considered when scaling down"}
+@Field {value:"scaleDownPercent: Maximum percentage of current replicas removed per scale down period"}
+@Field {value:"scaleDownPods: Maximum number of pods removed per scale down period"}
+@Field {value:"scaleDownPeriodSeconds: Period in seconds of the scale down policies"}
+@Field {value:"scaleDownSelectPolicy: Scale down policy to apply when several are set (Max, Min or Disabled)"}
 public struct PodAutoscalerConfig {
     string name;
     string labels;
     int minReplicas;
     int maxReplicas;
     int cpuPercentage;
+    int scaleUpStabilizationWindowSeconds;
+    int scaleUpPercent;
+    int scaleUpPods;
+    int scaleUpPeriodSeconds;
+    string scaleUpSelectPolicy;
+    int scaleDownStabilizationWindowSeconds;
+    int scaleDownPercent;
+    int scaleDownPods;
+    int scaleDownPeriodSeconds;
+    string scaleDownSelectPolicy;
 }
 
 @Description {value:"Pod Autoscaler annotation for Kubernetes"}
@@ -97,7 +253,7 @@ public annotation <service> HPA PodAutoscalerConfig;
 @Field {value:"name: Name of the volume mount"}
 @Field {value:"mountPath: Mount path"}
 @Field {value:"readOnly: Is mount read only"}
-@Field {value:"data: Paths to data files"}
+@Field {value:"data: Paths to data files, directories (not recursive) or glob patterns (recursive with **)"}
 public struct Secret {
     string name;
     string mountPath;
@@ -116,12 +272,14 @@ public annotation <service> Secret SecretMount;
 @Field {value:"name: Name of the volume mount"}
 @Field {value:"mountPath: Mount path"}
 @Field {value:"readOnly: Is mount read only"}
-@Field {value:"data: Paths to data files"}
+@Field {value:"data: Paths to data files, directories (not recursive) or glob patterns (recursive with **)"}
+@Field {value:"binaryData: Paths to binary files, directories (not recursive) or glob patterns (recursive with **)"}
 public struct ConfigMap {
     string name;
     string mountPath;
     boolean readOnly;
     string[] data;
+    string[] binaryData;
 }
 public struct  ConfigMapMount{
     ConfigMap[] configMaps;
@@ -136,12 +294,20 @@ public annotation <service> ConfigMap ConfigMapMount;
 @Field {value:"accessMode: Access mode"}
 @Field {value:"volumeClaimSize: Size of the volume claim"}
 @Field {value:"readOnly: Is mount read only"}
+@Field {value:"storageClassName: Storage class of the volume claim"}
+@Field {value:"volumeMode: Volume mode. Filesystem or Block"}
+@Field {value:"dataSource: Name of the volume claim or snapshot to clone the volume from"}
+@Field {value:"dataSourceKind: Kind of the data source. PersistentVolumeClaim or VolumeSnapshot"}
 public struct PersistentVolumeClaimConfig {
     string name;
     string mountPath;
     string accessMode;
     string volumeClaimSize;
     boolean readOnly;
+    string storageClassName;
+    string volumeMode;
+    string dataSource;
+    string dataSourceKind;
 }
 public struct  PersistentVolumeClaims{
     PersistentVolumeClaimConfig[] volumeClaims;
@@ -149,3 +315,21 @@ public struct  PersistentVolumeClaims{
 
 @Description {value:"ConfigMap volumes annotation for Kubernetes"}
 public annotation <service> PersistentVolumeClaim PersistentVolumeClaims;
+
+@Description {value:"Kubernetes scratch volume"}
+@Field {value:"name: Name of the volume"}
+@Field {value:"mountPath: Mount Path"}
+@Field {value:"medium: Storage medium. Disk or Memory"}
+@Field {value:"sizeLimit: Maximum size of the volume"}
+public struct ScratchVolumeConfig {
+    string name;
+    string mountPath;
+    string medium;
+    string sizeLimit;
+}
+public struct ScratchVolumes {
+    ScratchVolumeConfig[] scratchVolumes;
+}
+
+@Description {value:"Scratch volumes annotation for Kubernetes"}
+public annotation <service,function> ScratchVolume ScratchVolumes;
@@ -36,6 +36,7 @@ import org.ballerinax.kubernetes.models.IngressModel;
 import org.ballerinax.kubernetes.models.KubernetesDataHolder;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.models.ScratchVolumeModel;
 import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.models.ServiceModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
@@ -47,21 +48,41 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinax.kubernetes.utils.KubernetesUtils.resolveValue;
 
@@ -73,9 +94,12 @@ class KubernetesAnnotationProcessor {
     private static final String DOCKER = "docker";
     private static final String BALX = ".balx";
     private static final String DEPLOYMENT_POSTFIX = "-deployment";
+    private static final String JOB_POSTFIX = "-job";
+    private static final String CRON_JOB_POSTFIX = "-cronjob";
     private static final String SVC_POSTFIX = "-svc";
     private static final String INGRESS_POSTFIX = "-ingress";
     private static final String HPA_POSTFIX = "-hpa";
+    private static final String SHARD_POSTFIX = "-shard-";
     private static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
     private static final String SVC_FILE_POSTFIX = "_svc";
     private static final String SECRET_FILE_POSTFIX = "_secret";
@@ -87,6 +111,8 @@ class KubernetesAnnotationProcessor {
     private static final String DOCKER_LATEST_TAG = ":latest";
     private static final String INGRESS_HOSTNAME_POSTFIX = ".com";
     private static final String DEFAULT_BASE_IMAGE = "ballerina/ballerina:latest";
+    private static final int MAX_PORT_NAME_LENGTH = 15;
+    private static final Pattern GLOB_PATTERN = Pattern.compile("[*?\\[{]");
     private PrintStream out = System.out;
 
     /**
@@ -139,16 +165,39 @@ class KubernetesAnnotationProcessor {
         }
         kubernetesDataHolder.setDeploymentModel(deploymentModel);
         deploymentModel.setPorts(kubernetesDataHolder.getPorts());
+        assignPortNames(kubernetesDataHolder.getEndpointToServiceModelMap());
+        deploymentModel.setPortNames(getPortNames(kubernetesDataHolder.getEndpointToServiceModelMap().values()));
         deploymentModel.setPodAutoscalerModel(kubernetesDataHolder.getPodAutoscalerModel());
+        kubernetesDataHolder.setSecrets(deduplicateSecrets(kubernetesDataHolder.getSecrets()));
+        shardConfigs(kubernetesDataHolder, deploymentModel);
         deploymentModel.setSecretModels(kubernetesDataHolder.getSecrets());
         deploymentModel.setConfigMapModels(kubernetesDataHolder.getConfigMaps());
         deploymentModel.setVolumeClaimModels(kubernetesDataHolder.getPersistentVolumeClaims());
+        deploymentModel.setScratchVolumeModels(kubernetesDataHolder.getScratchVolumes());
+        if (deploymentModel.isImmutableConfig()) {
+            setContentHashNames(kubernetesDataHolder.getSecrets(), kubernetesDataHolder.getConfigMaps());
+        }
+        if (isJob(deploymentModel) && (!kubernetesDataHolder.getEndpointToServiceModelMap().isEmpty() ||
+                !kubernetesDataHolder.getIngressToEndpointMap().isEmpty())) {
+            throw new KubernetesPluginException("Services and ingresses cannot be used with " +
+                    deploymentModel.getKind() + ": " + deploymentModel.getName());
+        }
+        setAppProtocols(kubernetesDataHolder.getIngressToEndpointMap(), kubernetesDataHolder
+                .getEndpointToServiceModelMap());
+        // services are consolidated first so that a stateful set refers to the name of the generated service.
+        Collection<ServiceModel> serviceModels = consolidateServices(kubernetesDataHolder
+                .getEndpointToServiceModelMap().values());
+        if (KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET.equals(deploymentModel.getKind())) {
+            ServiceModel governingService = getGoverningService(deploymentModel, serviceModels, balxFilePath);
+            if (governingService != null) {
+                serviceModels.add(governingService);
+            }
+        }
         generateDeployment(deploymentModel, balxFilePath, outputDir);
         out.println();
         out.println("@kubernetes:Deployment \t\t\t - complete 1/1");
 
         //svc
-        Collection<ServiceModel> serviceModels = kubernetesDataHolder.getEndpointToServiceModelMap().values();
         int count = 0;
         for (ServiceModel serviceModel : serviceModels) {
             count++;
@@ -166,6 +215,8 @@ class KubernetesAnnotationProcessor {
         Map<String, ServiceModel> endpointMap = kubernetesDataHolder.getEndpointToServiceModelMap();
         Iterator<Map.Entry<IngressModel, Set<String>>> iterator = ingressModels.entrySet().iterator();
         Map<String, Set<SecretModel>> secretModelsMap = kubernetesDataHolder.getSecretModels();
+        Set<SecretModel> tlsSecretModels = new HashSet<>();
+        List<IngressModel> resolvedIngressModels = new ArrayList<>();
         while (iterator.hasNext()) {
             Map.Entry<IngressModel, Set<String>> pair = iterator.next();
             IngressModel ingressModel = pair.getKey();
@@ -178,10 +229,21 @@ class KubernetesAnnotationProcessor {
                     ingressModel.setEnableTLS(true);
                 }
             }
+            resolveTLSSecret(ingressModel, endpoints, kubernetesDataHolder.getTLSSecretModels(),
+                    tlsSecretModels);
+            resolvedIngressModels.add(ingressModel);
+            iterator.remove();
+        }
+        Collection<IngressModel> consolidatedIngressModels = consolidateIngresses(resolvedIngressModels);
+        size = consolidatedIngressModels.size();
+        for (IngressModel ingressModel : consolidatedIngressModels) {
             generateIngress(ingressModel, balxFilePath, outputDir);
             count++;
             out.print("@kubernetes:Ingress \t\t\t - complete " + count + "/" + size + "\r");
-            iterator.remove();
+        }
+
+        for (SecretModel tlsSecretModel : tlsSecretModels) {
+            generateSecrets(tlsSecretModel, balxFilePath, outputDir);
         }
 
         //secret
@@ -211,6 +273,10 @@ class KubernetesAnnotationProcessor {
         //volume mount
         count = 0;
         Collection<PersistentVolumeClaimModel> volumeClaims = kubernetesDataHolder.getPersistentVolumeClaims();
+        if (KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET.equals(deploymentModel.getKind())) {
+            // stateful set replicas claim their own volumes from the volume claim templates.
+            volumeClaims = new HashSet<>();
+        }
         if (volumeClaims.size() > 0) {
             out.println();
         }
@@ -225,17 +291,273 @@ class KubernetesAnnotationProcessor {
     }
 
 
+    private boolean isJob(DeploymentModel deploymentModel) {
+        return KubernetesConstants.DEPLOYMENT_KIND_JOB.equals(deploymentModel.getKind()) ||
+                KubernetesConstants.DEPLOYMENT_KIND_CRON_JOB.equals(deploymentModel.getKind());
+    }
+
+    /**
+     * Get the headless service governing the network identity of stateful set pods. A headless endpoint service is
+     * used if there is one, otherwise a headless service exposing all container ports is created.
+     *
+     * @param deploymentModel deployment model
+     * @param serviceModels   service models of endpoints
+     * @param balxFilePath    ballerina file path
+     * @return Service model to generate in addition to the endpoint services or null if an endpoint service is used
+     */
+    private ServiceModel getGoverningService(DeploymentModel deploymentModel, Collection<ServiceModel> serviceModels,
+                                             String balxFilePath) {
+        for (ServiceModel serviceModel : serviceModels) {
+            if (serviceModel.isHeadless()) {
+                deploymentModel.setServiceName(serviceModel.getName());
+                return null;
+            }
+        }
+        ServiceModel governingService = new ServiceModel();
+        governingService.setName(getValidName(KubernetesUtils.extractBalxName(balxFilePath)) + "-headless" +
+                SVC_POSTFIX);
+        governingService.setHeadless(true);
+        for (Integer port : deploymentModel.getPorts()) {
+            String portName = deploymentModel.getPortNames().get(port);
+            governingService.addNamedPort(portName != null ? portName : "port-" + port, port);
+        }
+        deploymentModel.setServiceName(governingService.getName());
+        return governingService;
+    }
+
+    /**
+     * Resolve the TLS secret of an ingress terminating TLS. A secret derived from the endpoint key-store is used
+     * unless a secret name is given.
+     *
+     * @param ingressModel    ingress model
+     * @param endpoints       endpoints exposed by the ingress
+     * @param tlsSecretMap    TLS secrets derived from endpoint key-stores
+     * @param tlsSecretModels TLS secrets to be generated
+     * @throws KubernetesPluginException if the ingress cannot terminate TLS
+     */
+    private void resolveTLSSecret(IngressModel ingressModel, Set<String> endpoints, Map<String, SecretModel>
+            tlsSecretMap, Set<SecretModel> tlsSecretModels) throws KubernetesPluginException {
+        String tlsMode = ingressModel.getTlsMode();
+        if (!ingressModel.isEnableTLS() || KubernetesConstants.INGRESS_TLS_PASSTHROUGH.equals(tlsMode)) {
+            return;
+        }
+        for (String endpointName : endpoints) {
+            if (KubernetesConstants.INGRESS_TLS_EDGE.equals(tlsMode) && tlsSecretMap.containsKey(endpointName)) {
+                throw new KubernetesPluginException("Endpoint " + endpointName + " of ingress " +
+                        ingressModel.getName() + " serves TLS. Use tlsMode " +
+                        KubernetesConstants.INGRESS_TLS_REENCRYPT + " to terminate TLS at the ingress.");
+            }
+        }
+        if (ingressModel.getTlsSecretName() != null) {
+            return;
+        }
+        for (String endpointName : endpoints) {
+            SecretModel tlsSecretModel = tlsSecretMap.get(endpointName);
+            if (tlsSecretModel != null) {
+                ingressModel.setTlsSecretName(tlsSecretModel.getName());
+                tlsSecretModels.add(tlsSecretModel);
+                return;
+            }
+        }
+        throw new KubernetesPluginException("Unable to terminate TLS at ingress " + ingressModel.getName() + ". " +
+                "Set tlsSecretName or use a PKCS12 keyStore with a password in the endpoint secureSocket.");
+    }
+
+    /**
+     * Name the ports of consolidated endpoints without a port name after their endpoint. Multi-port services need
+     * named ports, and the names are shortened to 15 characters, so names which clash with the port name of another
+     * endpoint get a numeric suffix.
+     *
+     * @param endpointToServiceModelMap endpoint name to service model map
+     * @throws KubernetesPluginException if two endpoints set the same port name
+     */
+    void assignPortNames(Map<String, ServiceModel> endpointToServiceModelMap) throws KubernetesPluginException {
+        Map<String, ServiceModel> sortedServiceModels = new TreeMap<>(endpointToServiceModelMap);
+        Set<String> portNames = new HashSet<>();
+        for (Map.Entry<String, ServiceModel> entry : sortedServiceModels.entrySet()) {
+            String portName = entry.getValue().getPortName();
+            if (portName != null && !portNames.add(portName)) {
+                throw new KubernetesPluginException("Duplicate port name " + portName + " in endpoint: " +
+                        entry.getKey() + ". Use portName to set unique names.");
+            }
+        }
+        for (Map.Entry<String, ServiceModel> entry : sortedServiceModels.entrySet()) {
+            ServiceModel serviceModel = entry.getValue();
+            if (serviceModel.getPortName() != null || !serviceModel.isConsolidate()) {
+                continue;
+            }
+            String baseName = getValidPortName(entry.getKey(), false);
+            String portName = baseName;
+            for (int suffix = 2; portNames.contains(portName); suffix++) {
+                String postfix = "-" + suffix;
+                portName = baseName.substring(0, Math.min(baseName.length(), MAX_PORT_NAME_LENGTH - postfix.length()))
+                        .replaceAll("-+$", "") + postfix;
+            }
+            portNames.add(portName);
+            serviceModel.setPortName(portName);
+        }
+    }
+
+    /**
+     * Map container ports to the port names of the services exposing them.
+     *
+     * @param serviceModels service models
+     * @return Map of port to port name
+     */
+    private Map<Integer, String> getPortNames(Collection<ServiceModel> serviceModels) {
+        Map<Integer, String> portNames = new HashMap<>();
+        for (ServiceModel serviceModel : serviceModels) {
+            if (serviceModel.getPortName() != null) {
+                portNames.put(serviceModel.getPort(), serviceModel.getPortName());
+            }
+        }
+        return portNames;
+    }
+
+    /**
+     * Set the application protocol of service ports exposed through ingresses with a backend protocol.
+     *
+     * @param ingressModels ingress models with their endpoints
+     * @param endpointMap   service models of endpoints
+     * @throws KubernetesPluginException if ingresses use different protocols for the same service port
+     */
+    void setAppProtocols(Map<IngressModel, Set<String>> ingressModels, Map<String, ServiceModel>
+            endpointMap) throws KubernetesPluginException {
+        for (Map.Entry<IngressModel, Set<String>> pair : ingressModels.entrySet()) {
+            String backendProtocol = pair.getKey().getEffectiveBackendProtocol();
+            if (backendProtocol == null) {
+                continue;
+            }
+            String appProtocol = backendProtocol.toLowerCase(Locale.ENGLISH);
+            for (String endpointName : pair.getValue()) {
+                ServiceModel serviceModel = endpointMap.get(endpointName);
+                String existingAppProtocol = serviceModel.getAppProtocols().get(serviceModel.getPort());
+                if (existingAppProtocol != null && !existingAppProtocol.equals(appProtocol)) {
+                    throw new KubernetesPluginException("Ingresses use different backend protocols for endpoint: " +
+                            endpointName);
+                }
+                serviceModel.addAppProtocol(serviceModel.getPort(), appProtocol);
+            }
+        }
+    }
+
+    /**
+     * Merge services marked for consolidation into one multi-port service per service type and settings. All
+     * services of a program share the same selector, so the service type and settings are the only things that can
+     * keep them apart.
+     *
+     * @param serviceModels service models
+     * @return Service models to generate
+     * @throws KubernetesPluginException if two consolidated endpoints have the same port name
+     */
+    Collection<ServiceModel> consolidateServices(Collection<ServiceModel> serviceModels) throws
+            KubernetesPluginException {
+        List<ServiceModel> services = new ArrayList<>();
+        Map<String, ServiceModel> consolidatedServices = new HashMap<>();
+        List<ServiceModel> sortedServiceModels = new ArrayList<>(serviceModels);
+        sortedServiceModels.sort(Comparator.comparing(ServiceModel::getName));
+        for (ServiceModel serviceModel : sortedServiceModels) {
+            if (!serviceModel.isConsolidate()) {
+                services.add(serviceModel);
+                continue;
+            }
+            String consolidationKey = getConsolidationKey(serviceModel);
+            ServiceModel consolidatedService = consolidatedServices.get(consolidationKey);
+            if (consolidatedService == null) {
+                consolidatedService = serviceModel;
+                consolidatedServices.put(consolidationKey, consolidatedService);
+                services.add(consolidatedService);
+            } else {
+                consolidatedService.getLabels().putAll(serviceModel.getLabels());
+                // ingresses refer to the endpoint's service by name.
+                serviceModel.setName(consolidatedService.getName());
+            }
+            if (consolidatedService.getNamedPorts().containsKey(serviceModel.getPortName())) {
+                throw new KubernetesPluginException("Duplicate port name " + serviceModel.getPortName() + " in " +
+                        "service: " + consolidatedService.getName() + ". Use portName to set unique names.");
+            }
+            consolidatedService.addNamedPort(serviceModel.getPortName(), serviceModel.getPort());
+            if (consolidatedService != serviceModel) {
+                consolidatedService.getAppProtocols().putAll(serviceModel.getAppProtocols());
+            }
+        }
+        return services;
+    }
+
+    /**
+     * Get the key of the services an endpoint service can be merged with. Only services with the same settings are
+     * merged, so that the settings of an endpoint are not dropped in favour of the first service.
+     *
+     * @param serviceModel service model
+     * @return consolidation key
+     */
+    private String getConsolidationKey(ServiceModel serviceModel) {
+        return serviceModel.getServiceType() + "|" + serviceModel.isHeadless() + "|" +
+                serviceModel.isPublishNotReadyAddresses() + "|" + serviceModel.getExternalTrafficPolicy() + "|" +
+                serviceModel.getInternalTrafficPolicy() + "|" + serviceModel.isTopologyAwareRouting() + "|" +
+                serviceModel.getSessionAffinity() + "|" + serviceModel.getSessionAffinityTimeout();
+    }
+
+    /**
+     * Merge ingresses marked for consolidation into one ingress with a path per service. Only ingresses with the
+     * same hostname, class, TLS secret and annotations are merged, so ingresses with their own settings stay separate
+     * objects and the controller applies those settings to their paths only.
+     *
+     * @param ingressModels ingress models
+     * @return Ingress models to generate
+     * @throws KubernetesPluginException if two consolidated ingresses route the same path
+     */
+    private Collection<IngressModel> consolidateIngresses(Collection<IngressModel> ingressModels) throws
+            KubernetesPluginException {
+        List<IngressModel> ingresses = new ArrayList<>();
+        Map<String, IngressModel> consolidatedIngresses = new HashMap<>();
+        List<IngressModel> sortedIngressModels = new ArrayList<>(ingressModels);
+        sortedIngressModels.sort(Comparator.comparing(IngressModel::getName));
+        for (IngressModel ingressModel : sortedIngressModels) {
+            if (!ingressModel.isConsolidate()) {
+                ingresses.add(ingressModel);
+                continue;
+            }
+            String consolidationKey = ingressModel.getHostname() + "|" + ingressModel.isEnableTLS() + "|" +
+                    ingressModel.getTlsSecretName() + "|" +
+                    new TreeMap<>(new IngressHandler(ingressModel).generateAnnotations());
+            IngressModel consolidatedIngress = consolidatedIngresses.get(consolidationKey);
+            if (consolidatedIngress == null) {
+                consolidatedIngresses.put(consolidationKey, ingressModel);
+                ingresses.add(ingressModel);
+                continue;
+            }
+            boolean duplicatePath = consolidatedIngress.getPath().equals(ingressModel.getPath()) ||
+                    consolidatedIngress.getConsolidatedIngressModels().stream()
+                            .anyMatch(pathIngressModel -> pathIngressModel.getPath().equals(ingressModel.getPath()));
+            if (duplicatePath) {
+                throw new KubernetesPluginException("Duplicate path " + ingressModel.getPath() + " for host " +
+                        ingressModel.getHostname() + " in ingress: " + consolidatedIngress.getName());
+            }
+            consolidatedIngress.getLabels().putAll(ingressModel.getLabels());
+            consolidatedIngress.addConsolidatedIngressModel(ingressModel);
+        }
+        return ingresses;
+    }
+
     private void generateDeployment(DeploymentModel deploymentModel, String balxFilePath, String outputDir) throws
             KubernetesPluginException {
         String balxFileName = KubernetesUtils.extractBalxName(balxFilePath);
         if (deploymentModel.getName() == null) {
-            deploymentModel.setName(getValidName(balxFileName) + DEPLOYMENT_POSTFIX);
+            String postfix = DEPLOYMENT_POSTFIX;
+            if (KubernetesConstants.DEPLOYMENT_KIND_JOB.equals(deploymentModel.getKind())) {
+                postfix = JOB_POSTFIX;
+            } else if (KubernetesConstants.DEPLOYMENT_KIND_CRON_JOB.equals(deploymentModel.getKind())) {
+                postfix = CRON_JOB_POSTFIX;
+            }
+            deploymentModel.setName(getValidName(balxFileName) + postfix);
         }
         if (deploymentModel.getImage() == null) {
             deploymentModel.setImage(balxFileName + DOCKER_LATEST_TAG);
         }
         deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
-        if ("enable".equals(deploymentModel.getEnableLiveness()) && deploymentModel.getLivenessPort() == 0) {
+        if ("enable".equals(deploymentModel.getEnableLiveness()) && deploymentModel.getLivenessPort() == 0 &&
+                !isJob(deploymentModel)) {
             //set first port as liveness port
             deploymentModel.setLivenessPort(deploymentModel.getPorts().iterator().next());
         }
@@ -321,9 +643,14 @@ class KubernetesAnnotationProcessor {
         if (podAutoscalerModel == null) {
             return;
         }
+        if (isJob(deploymentModel)) {
+            throw new KubernetesPluginException("HPA cannot be used with " + deploymentModel.getKind() + ": " +
+                    deploymentModel.getName());
+        }
         String balxFileName = KubernetesUtils.extractBalxName(balxFilePath);
         podAutoscalerModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
         podAutoscalerModel.setDeployment(deploymentModel.getName());
+        podAutoscalerModel.setDeploymentKind(deploymentModel.getKind());
         if (podAutoscalerModel.getMaxReplicas() == 0) {
             podAutoscalerModel.setMaxReplicas(deploymentModel.getReplicas() + 1);
         }
@@ -371,7 +698,7 @@ class KubernetesAnnotationProcessor {
         dockerModel.setPush(deploymentModel.isPush());
         dockerModel.setBalxFileName(KubernetesUtils.extractBalxName(balxFilePath) + BALX);
         dockerModel.setPorts(deploymentModel.getPorts());
-        dockerModel.setService(true);
+        dockerModel.setService(!isJob(deploymentModel));
         dockerModel.setDockerHost(deploymentModel.getDockerHost());
         dockerModel.setDockerCertPath(deploymentModel.getDockerCertPath());
         dockerModel.setBuildImage(deploymentModel.isBuildImage());
@@ -439,7 +766,20 @@ class KubernetesAnnotationProcessor {
      * @return Deployment model object
      */
     DeploymentModel processDeployment(AnnotationAttachmentNode attachmentNode) throws KubernetesPluginException {
+        return processDeployment(attachmentNode, KubernetesConstants.DEPLOYMENT_KIND_DEPLOYMENT);
+    }
+
+    /**
+     * Process annotations and create deployment model object.
+     *
+     * @param attachmentNode annotation attachment node.
+     * @param defaultKind    workload kind used when the annotation does not set one.
+     * @return Deployment model object
+     */
+    DeploymentModel processDeployment(AnnotationAttachmentNode attachmentNode, String defaultKind)
+            throws KubernetesPluginException {
         DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setKind(defaultKind);
         List<BLangRecordLiteral.BLangRecordKeyValue> keyValues =
                 ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
         for (BLangRecordLiteral.BLangRecordKeyValue keyValue : keyValues) {
@@ -450,6 +790,9 @@ class KubernetesAnnotationProcessor {
                 case name:
                     deploymentModel.setName(getValidName(annotationValue));
                     break;
+                case kind:
+                    deploymentModel.setKind(annotationValue);
+                    break;
                 case labels:
                     deploymentModel.setLabels(getLabelMap(annotationValue));
                     break;
@@ -498,6 +841,115 @@ class KubernetesAnnotationProcessor {
                 case replicas:
                     deploymentModel.setReplicas(Integer.parseInt(annotationValue));
                     break;
+                case strategy:
+                    deploymentModel.setStrategy(getDeploymentStrategy(annotationValue));
+                    break;
+                case maxSurge:
+                    deploymentModel.setMaxSurge(annotationValue);
+                    break;
+                case maxUnavailable:
+                    deploymentModel.setMaxUnavailable(annotationValue);
+                    break;
+                case preserveCapacity:
+                    deploymentModel.setPreserveCapacity(Boolean.valueOf(annotationValue));
+                    break;
+                case minReadySeconds:
+                    deploymentModel.setMinReadySeconds(Integer.parseInt(annotationValue));
+                    break;
+                case progressDeadlineSeconds:
+                    deploymentModel.setProgressDeadlineSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case revisionHistoryLimit:
+                    deploymentModel.setRevisionHistoryLimit(Integer.parseInt(annotationValue));
+                    break;
+                case drainSeconds:
+                    deploymentModel.setDrainSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case terminationGracePeriodSeconds:
+                    deploymentModel.setTerminationGracePeriodSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case podAntiAffinity:
+                    deploymentModel.setPodAntiAffinity(annotationValue);
+                    break;
+                case antiAffinityTopologyKey:
+                    deploymentModel.setAntiAffinityTopologyKey(annotationValue);
+                    break;
+                case topologySpreadKey:
+                    deploymentModel.setTopologySpreadKey(annotationValue);
+                    break;
+                case maxSkew:
+                    deploymentModel.setMaxSkew(Integer.parseInt(annotationValue));
+                    break;
+                case whenUnsatisfiable:
+                    deploymentModel.setWhenUnsatisfiable(annotationValue);
+                    break;
+                case podAffinity:
+                    List<BLangExpression> podAffinityLabels = ((BLangArrayLiteral) keyValue.valueExpr).exprs;
+                    for (BLangExpression podAffinityLabel : podAffinityLabels) {
+                        deploymentModel.addPodAffinityLabels(getLabelMap(resolveValue(((BLangLiteral)
+                                podAffinityLabel).getValue().toString())));
+                    }
+                    break;
+                case podAffinityWeight:
+                    deploymentModel.setPodAffinityWeight(Integer.parseInt(annotationValue));
+                    break;
+                case podAffinityTopologyKey:
+                    deploymentModel.setPodAffinityTopologyKey(annotationValue);
+                    break;
+                case nodeSelector:
+                    deploymentModel.setNodeSelector(getLabelMap(annotationValue));
+                    break;
+                case requiredNodeAffinity:
+                    deploymentModel.setRequiredNodeAffinity(getLabelMap(annotationValue));
+                    break;
+                case preferredNodeAffinity:
+                    deploymentModel.setPreferredNodeAffinity(getLabelMap(annotationValue));
+                    break;
+                case tolerations:
+                    List<BLangExpression> tolerations = ((BLangArrayLiteral) keyValue.valueExpr).exprs;
+                    for (BLangExpression toleration : tolerations) {
+                        deploymentModel.addToleration(resolveValue(((BLangLiteral) toleration).getValue()
+                                .toString()));
+                    }
+                    break;
+                case schedule:
+                    deploymentModel.setSchedule(annotationValue);
+                    break;
+                case concurrencyPolicy:
+                    deploymentModel.setConcurrencyPolicy(annotationValue);
+                    break;
+                case parallelism:
+                    deploymentModel.setParallelism(Integer.parseInt(annotationValue));
+                    break;
+                case completions:
+                    deploymentModel.setCompletions(Integer.parseInt(annotationValue));
+                    break;
+                case indexedCompletion:
+                    deploymentModel.setIndexedCompletion(Boolean.parseBoolean(annotationValue));
+                    break;
+                case backoffLimit:
+                    deploymentModel.setBackoffLimit(Integer.parseInt(annotationValue));
+                    break;
+                case activeDeadlineSeconds:
+                    deploymentModel.setActiveDeadlineSeconds(Long.parseLong(annotationValue));
+                    break;
+                case restartPolicy:
+                    deploymentModel.setRestartPolicy(annotationValue);
+                    break;
+                case projectedVolumes:
+                    deploymentModel.setProjectedVolumes(Boolean.parseBoolean(annotationValue));
+                    break;
+                case immutableConfig:
+                    deploymentModel.setImmutableConfig(Boolean.parseBoolean(annotationValue));
+                    break;
+                case maxConfigSize:
+                    int configSize = Integer.parseInt(annotationValue);
+                    if (configSize <= 0) {
+                        throw new KubernetesPluginException("Invalid maxConfigSize: " + annotationValue + ". Value " +
+                                "should be greater than 0.");
+                    }
+                    deploymentModel.setMaxConfigSize(configSize);
+                    break;
                 default:
                     break;
             }
@@ -505,6 +957,15 @@ class KubernetesAnnotationProcessor {
         return deploymentModel;
     }
 
+    private String getDeploymentStrategy(String strategy) throws KubernetesPluginException {
+        if (KubernetesConstants.DEPLOYMENT_STRATEGY_ROLLING_UPDATE.equals(strategy) ||
+                KubernetesConstants.DEPLOYMENT_STRATEGY_RECREATE.equals(strategy)) {
+            return strategy;
+        }
+        throw new KubernetesPluginException("Invalid deployment strategy: " + strategy + ". Supported values are " +
+                "RollingUpdate and Recreate.");
+    }
+
     /**
      * Process annotations and create service model object.
      *
@@ -534,6 +995,33 @@ class KubernetesAnnotationProcessor {
                 case port:
                     serviceModel.setPort(Integer.parseInt(annotationValue));
                     break;
+                case portName:
+                    serviceModel.setPortName(getValidPortName(annotationValue, true));
+                    break;
+                case consolidate:
+                    serviceModel.setConsolidate(Boolean.parseBoolean(annotationValue));
+                    break;
+                case externalTrafficPolicy:
+                    serviceModel.setExternalTrafficPolicy(annotationValue);
+                    break;
+                case internalTrafficPolicy:
+                    serviceModel.setInternalTrafficPolicy(annotationValue);
+                    break;
+                case topologyAwareRouting:
+                    serviceModel.setTopologyAwareRouting(Boolean.parseBoolean(annotationValue));
+                    break;
+                case sessionAffinity:
+                    serviceModel.setSessionAffinity(annotationValue);
+                    break;
+                case sessionAffinityTimeout:
+                    serviceModel.setSessionAffinityTimeout(Integer.parseInt(annotationValue));
+                    break;
+                case headless:
+                    serviceModel.setHeadless(Boolean.parseBoolean(annotationValue));
+                    break;
+                case publishNotReadyAddresses:
+                    serviceModel.setPublishNotReadyAddresses(Boolean.parseBoolean(annotationValue));
+                    break;
                 default:
                     break;
             }
@@ -575,6 +1063,36 @@ class KubernetesAnnotationProcessor {
                 case maxReplicas:
                     podAutoscalerModel.setMaxReplicas(Integer.parseInt(annotationValue));
                     break;
+                case scaleUpStabilizationWindowSeconds:
+                    podAutoscalerModel.setScaleUpStabilizationWindowSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case scaleUpPercent:
+                    podAutoscalerModel.setScaleUpPercent(Integer.parseInt(annotationValue));
+                    break;
+                case scaleUpPods:
+                    podAutoscalerModel.setScaleUpPods(Integer.parseInt(annotationValue));
+                    break;
+                case scaleUpPeriodSeconds:
+                    podAutoscalerModel.setScaleUpPeriodSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case scaleUpSelectPolicy:
+                    podAutoscalerModel.setScaleUpSelectPolicy(getScalingSelectPolicy(annotationValue));
+                    break;
+                case scaleDownStabilizationWindowSeconds:
+                    podAutoscalerModel.setScaleDownStabilizationWindowSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case scaleDownPercent:
+                    podAutoscalerModel.setScaleDownPercent(Integer.parseInt(annotationValue));
+                    break;
+                case scaleDownPods:
+                    podAutoscalerModel.setScaleDownPods(Integer.parseInt(annotationValue));
+                    break;
+                case scaleDownPeriodSeconds:
+                    podAutoscalerModel.setScaleDownPeriodSeconds(Integer.parseInt(annotationValue));
+                    break;
+                case scaleDownSelectPolicy:
+                    podAutoscalerModel.setScaleDownSelectPolicy(getScalingSelectPolicy(annotationValue));
+                    break;
                 default:
                     break;
             }
@@ -582,6 +1100,18 @@ class KubernetesAnnotationProcessor {
         return podAutoscalerModel;
     }
 
+    private String getScalingSelectPolicy(String selectPolicy) throws KubernetesPluginException {
+        switch (selectPolicy) {
+            case "Max":
+            case "Min":
+            case "Disabled":
+                return selectPolicy;
+            default:
+                throw new KubernetesPluginException("Invalid HPA select policy: " + selectPolicy + ". " +
+                        "Supported values are Max, Min and Disabled.");
+        }
+    }
+
     /**
      * Process annotations and create Ingress model object.
      *
@@ -620,6 +1150,90 @@ class KubernetesAnnotationProcessor {
                 case enableTLS:
                     ingressModel.setEnableTLS(Boolean.parseBoolean(annotationValue));
                     break;
+                case backendProtocol:
+                    ingressModel.setBackendProtocol(annotationValue.toUpperCase(Locale.ENGLISH));
+                    break;
+                case consolidate:
+                    ingressModel.setConsolidate(Boolean.parseBoolean(annotationValue));
+                    break;
+                case tlsMode:
+                    ingressModel.setTlsMode(annotationValue);
+                    break;
+                case tlsSecretName:
+                    ingressModel.setTlsSecretName(annotationValue);
+                    break;
+                case sslSessionTimeout:
+                    ingressModel.setSslSessionTimeout(annotationValue);
+                    break;
+                case sslSessionTickets:
+                    ingressModel.setSslSessionTickets(Boolean.parseBoolean(annotationValue));
+                    break;
+                case http2MaxConcurrentStreams:
+                    ingressModel.setHttp2MaxConcurrentStreams(Integer.parseInt(annotationValue));
+                    break;
+                case enableCache:
+                    ingressModel.setEnableCache(Boolean.parseBoolean(annotationValue));
+                    break;
+                case cacheZone:
+                    ingressModel.setCacheZone(annotationValue);
+                    break;
+                case cachePaths:
+                    List<BLangExpression> cachePaths = ((BLangArrayLiteral) keyValue.valueExpr).exprs;
+                    for (BLangExpression cachePath : cachePaths) {
+                        ingressModel.addCachePath(resolveValue(((BLangLiteral) cachePath).getValue().toString()));
+                    }
+                    break;
+                case cacheTTL:
+                    ingressModel.setCacheTTL(annotationValue);
+                    break;
+                case cacheKey:
+                    ingressModel.setCacheKey(annotationValue);
+                    break;
+                case limitRps:
+                    ingressModel.setLimitRps(Integer.parseInt(annotationValue));
+                    break;
+                case limitRpm:
+                    ingressModel.setLimitRpm(Integer.parseInt(annotationValue));
+                    break;
+                case limitBurstMultiplier:
+                    ingressModel.setLimitBurstMultiplier(Integer.parseInt(annotationValue));
+                    break;
+                case limitConnections:
+                    ingressModel.setLimitConnections(Integer.parseInt(annotationValue));
+                    break;
+                case limitAllowList:
+                    List<BLangExpression> allowList = ((BLangArrayLiteral) keyValue.valueExpr).exprs;
+                    for (BLangExpression cidr : allowList) {
+                        ingressModel.addLimitAllowList(resolveValue(((BLangLiteral) cidr).getValue().toString()));
+                    }
+                    break;
+                case tuningPreset:
+                    ingressModel.setTuningPreset(annotationValue);
+                    break;
+                case upstreamKeepalive:
+                    ingressModel.setUpstreamKeepalive(Boolean.parseBoolean(annotationValue));
+                    break;
+                case proxyBuffering:
+                    ingressModel.setProxyBuffering(Boolean.parseBoolean(annotationValue));
+                    break;
+                case proxyBufferSize:
+                    ingressModel.setProxyBufferSize(annotationValue);
+                    break;
+                case proxyBuffersNumber:
+                    ingressModel.setProxyBuffersNumber(Integer.parseInt(annotationValue));
+                    break;
+                case proxyConnectTimeout:
+                    ingressModel.setProxyConnectTimeout(Integer.parseInt(annotationValue));
+                    break;
+                case proxySendTimeout:
+                    ingressModel.setProxySendTimeout(Integer.parseInt(annotationValue));
+                    break;
+                case proxyReadTimeout:
+                    ingressModel.setProxyReadTimeout(Integer.parseInt(annotationValue));
+                    break;
+                case proxyBodySize:
+                    ingressModel.setProxyBodySize(annotationValue);
+                    break;
                 default:
                     break;
             }
@@ -694,13 +1308,75 @@ class KubernetesAnnotationProcessor {
     }
 
 
-    private String readSecretFile(String filePath) throws KubernetesPluginException {
+    /**
+     * Derive a kubernetes TLS secret from the key-store of an endpoint so that an ingress can terminate TLS.
+     *
+     * @param endpointName          Endpoint name
+     * @param secureSocketKeyValues secureSocket annotation struct
+     * @return TLS @{@link SecretModel} or null if the endpoint has no usable PKCS12 key-store
+     */
+    SecretModel processTLSSecret(String endpointName, List<BLangRecordLiteral.BLangRecordKeyValue>
+            secureSocketKeyValues) {
+        String keyStoreFile = null;
+        String keyStorePassword = null;
+        for (BLangRecordLiteral.BLangRecordKeyValue keyValue : secureSocketKeyValues) {
+            if ("keyStore".equals(keyValue.getKey().toString())) {
+                keyStoreFile = extractFilePath(keyValue);
+                keyStorePassword = extractPassword(keyValue);
+            }
+        }
+        if (keyStoreFile == null || keyStorePassword == null) {
+            return null;
+        }
+        try {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            try (InputStream inputStream = Files.newInputStream(Paths.get(resolveBallerinaHome(keyStoreFile)))) {
+                keyStore.load(inputStream, keyStorePassword.toCharArray());
+            }
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (!keyStore.isKeyEntry(alias)) {
+                    continue;
+                }
+                Key key = keyStore.getKey(alias, keyStorePassword.toCharArray());
+                StringBuilder certificates = new StringBuilder();
+                for (Certificate certificate : keyStore.getCertificateChain(alias)) {
+                    certificates.append(toPem("CERTIFICATE", certificate.getEncoded()));
+                }
+                Map<String, String> dataMap = new HashMap<>();
+                dataMap.put("tls.crt", Base64.encodeBase64String(certificates.toString()
+                        .getBytes(StandardCharsets.UTF_8)));
+                dataMap.put("tls.key", Base64.encodeBase64String(toPem("PRIVATE KEY", key.getEncoded())
+                        .getBytes(StandardCharsets.UTF_8)));
+                SecretModel secretModel = new SecretModel();
+                secretModel.setName(getValidName(endpointName) + "-tls");
+                secretModel.setType(KubernetesConstants.SECRET_TYPE_TLS);
+                secretModel.setData(dataMap);
+                return secretModel;
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            // key-store is not a readable PKCS12 store; ingress TLS termination is validated when it is requested.
+            return null;
+        }
+        return null;
+    }
+
+    private String toPem(String type, byte[] content) {
+        return "-----BEGIN " + type + "-----\n" +
+                new Base64(64, "\n".getBytes(StandardCharsets.UTF_8)).encodeToString(content) +
+                "-----END " + type + "-----\n";
+    }
+
+    private String resolveBallerinaHome(String filePath) {
         if (filePath.contains("${ballerina.home}")) {
             // Resolve variable locally before reading file.
             String ballerinaHome = System.getProperty("ballerina.home");
             filePath = filePath.replace("${ballerina.home}", ballerinaHome);
         }
-        Path dataFilePath = Paths.get(filePath);
+        return filePath;
+    }
+
+    private String readSecretFile(String filePath) throws KubernetesPluginException {
+        Path dataFilePath = Paths.get(resolveBallerinaHome(filePath));
         return Base64.encodeBase64String(KubernetesUtils.readFileContent(dataFilePath));
     }
 
@@ -724,6 +1400,17 @@ class KubernetesAnnotationProcessor {
         return null;
     }
 
+    private String extractPassword(BLangRecordLiteral.BLangRecordKeyValue keyValue) {
+        List<BLangRecordLiteral.BLangRecordKeyValue> keyStoreConfigs = ((BLangRecordLiteral) keyValue
+                .valueExpr).getKeyValuePairs();
+        for (BLangRecordLiteral.BLangRecordKeyValue keyStoreConfig : keyStoreConfigs) {
+            if ("password".equals(keyStoreConfig.getKey().toString())) {
+                return keyStoreConfig.getValue().toString();
+            }
+        }
+        return null;
+    }
+
     /**
      * Process Secrets annotations.
      *
@@ -797,7 +1484,11 @@ class KubernetesAnnotationProcessor {
                             break;
                         case data:
                             List<BLangExpression> data = ((BLangArrayLiteral) annotation.valueExpr).exprs;
-                            configMapModel.setData(getDataForConfigMap(data));
+                            addDataForConfigMap(configMapModel, data, false);
+                            break;
+                        case binaryData:
+                            List<BLangExpression> binaryData = ((BLangArrayLiteral) annotation.valueExpr).exprs;
+                            addDataForConfigMap(configMapModel, binaryData, true);
                             break;
                         case readOnly:
                             configMapModel.setReadOnly(Boolean.parseBoolean(annotationValue));
@@ -849,6 +1540,18 @@ class KubernetesAnnotationProcessor {
                         case readOnly:
                             claimModel.setReadOnly(Boolean.parseBoolean(annotationValue));
                             break;
+                        case storageClassName:
+                            claimModel.setStorageClassName(annotationValue);
+                            break;
+                        case volumeMode:
+                            claimModel.setVolumeMode(annotationValue);
+                            break;
+                        case dataSource:
+                            claimModel.setDataSource(annotationValue);
+                            break;
+                        case dataSourceKind:
+                            claimModel.setDataSourceKind(annotationValue);
+                            break;
                         default:
                             break;
                     }
@@ -859,37 +1562,392 @@ class KubernetesAnnotationProcessor {
         return volumeClaimModels;
     }
 
+    /**
+     * Merge secrets with the same type and content, such as the key-store shared by several endpoints, into a
+     * single secret. The secret with the smallest name is kept and it is mounted at the mount paths of all merged
+     * secrets.
+     *
+     * @param secretModels secrets mounted to the deployment
+     * @return de-duplicated secrets
+     */
+    Set<SecretModel> deduplicateSecrets(Collection<SecretModel> secretModels) {
+        List<SecretModel> sortedSecretModels = new ArrayList<>(secretModels);
+        sortedSecretModels.sort(Comparator.comparing(SecretModel::getName));
+        Map<Map.Entry<String, Map<String, String>>, SecretModel> contentToSecretMap = new LinkedHashMap<>();
+        for (SecretModel secretModel : sortedSecretModels) {
+            // compare the data itself, since the truncated content hash can collide.
+            Map<String, String> data = secretModel.getData() == null ? Collections.emptyMap() :
+                    new TreeMap<>(secretModel.getData());
+            Map.Entry<String, Map<String, String>> contentKey = new AbstractMap.SimpleEntry<>(secretModel.getType(),
+                    data);
+            SecretModel existingSecret = contentToSecretMap.get(contentKey);
+            if (existingSecret == null) {
+                contentToSecretMap.put(contentKey, secretModel);
+                continue;
+            }
+            if (secretModel.getMountPath() != null) {
+                existingSecret.addAdditionalMountPath(secretModel.getMountPath());
+            }
+            existingSecret.getAdditionalMountPaths().addAll(secretModel.getAdditionalMountPaths());
+            existingSecret.getAdditionalMountPaths().remove(existingSecret.getMountPath());
+            existingSecret.setReadOnly(existingSecret.isReadOnly() && secretModel.isReadOnly());
+            KubernetesUtils.printDebug("Secret " + secretModel.getName() + " has the same content as " +
+                    existingSecret.getName() + " and is merged into it.");
+        }
+        return new LinkedHashSet<>(contentToSecretMap.values());
+    }
+
+    /**
+     * Split secrets and config maps whose encoded data exceeds the maximum config size into shards. Kubernetes
+     * rejects objects larger than 1 MiB. The shards keep the mount path of the original object and are combined
+     * again with a projected volume.
+     *
+     * @param kubernetesDataHolder data holder
+     * @param deploymentModel      deployment model
+     * @throws KubernetesPluginException if a single file exceeds the maximum config size
+     */
+    void shardConfigs(KubernetesDataHolder kubernetesDataHolder, DeploymentModel deploymentModel) throws
+            KubernetesPluginException {
+        int maxConfigSize = deploymentModel.getMaxConfigSize();
+        boolean sharded = false;
+        Set<SecretModel> secretModels = new LinkedHashSet<>();
+        for (SecretModel secretModel : kubernetesDataHolder.getSecrets()) {
+            Map<String, Integer> entrySizes = new HashMap<>();
+            if (secretModel.getData() != null) {
+                secretModel.getData().forEach((key, value) -> entrySizes.put(key, getEncodedSize(key, value)));
+            }
+            List<List<String>> shards = getShards(secretModel.getName(), entrySizes, maxConfigSize);
+            if (shards.size() <= 1) {
+                secretModels.add(secretModel);
+                continue;
+            }
+            sharded = true;
+            for (int i = 0; i < shards.size(); i++) {
+                SecretModel shard = new SecretModel();
+                shard.setName(secretModel.getName() + SHARD_POSTFIX + i);
+                shard.setMountPath(secretModel.getMountPath());
+                shard.getAdditionalMountPaths().addAll(secretModel.getAdditionalMountPaths());
+                shard.setReadOnly(secretModel.isReadOnly());
+                shard.setType(secretModel.getType());
+                Map<String, String> data = new TreeMap<>();
+                shards.get(i).forEach(key -> data.put(key, secretModel.getData().get(key)));
+                shard.setData(data);
+                secretModels.add(shard);
+            }
+        }
+        Set<ConfigMapModel> configMapModels = new LinkedHashSet<>();
+        for (ConfigMapModel configMapModel : kubernetesDataHolder.getConfigMaps()) {
+            Map<String, Integer> entrySizes = new HashMap<>();
+            configMapModel.getData().forEach((key, value) -> entrySizes.put(key, getEncodedSize(key, value)));
+            configMapModel.getBinaryData().forEach((key, value) -> entrySizes.put(key, getEncodedSize(key, value)));
+            List<List<String>> shards = getShards(configMapModel.getName(), entrySizes, maxConfigSize);
+            if (shards.size() <= 1) {
+                configMapModels.add(configMapModel);
+                continue;
+            }
+            sharded = true;
+            for (int i = 0; i < shards.size(); i++) {
+                ConfigMapModel shard = new ConfigMapModel();
+                shard.setName(configMapModel.getName() + SHARD_POSTFIX + i);
+                shard.setMountPath(configMapModel.getMountPath());
+                shard.setReadOnly(configMapModel.isReadOnly());
+                for (String key : shards.get(i)) {
+                    if (configMapModel.getData().containsKey(key)) {
+                        shard.getData().put(key, configMapModel.getData().get(key));
+                    } else {
+                        shard.getBinaryData().put(key, configMapModel.getBinaryData().get(key));
+                    }
+                }
+                configMapModels.add(shard);
+            }
+        }
+        kubernetesDataHolder.setSecrets(secretModels);
+        kubernetesDataHolder.setConfigMaps(configMapModels);
+        if (sharded) {
+            // shards share the mount path of the original object.
+            deploymentModel.setProjectedVolumes(true);
+        }
+    }
+
+    /**
+     * Group the data entries into shards in key order, so that no shard exceeds the maximum config size.
+     *
+     * @param name          name of the secret or config map
+     * @param entrySizes    encoded size of each data entry
+     * @param maxConfigSize maximum encoded size of a shard
+     * @return keys of each shard
+     * @throws KubernetesPluginException if a single entry exceeds the maximum config size
+     */
+    private List<List<String>> getShards(String name, Map<String, Integer> entrySizes, int maxConfigSize) throws
+            KubernetesPluginException {
+        List<List<String>> shards = new ArrayList<>();
+        List<String> shard = new ArrayList<>();
+        int shardSize = 0;
+        for (Map.Entry<String, Integer> entry : new TreeMap<>(entrySizes).entrySet()) {
+            if (entry.getValue() > maxConfigSize) {
+                throw new KubernetesPluginException("File " + entry.getKey() + " of " + name + " is " +
+                        entry.getValue() + " bytes when encoded, which exceeds the maximum config size of " +
+                        maxConfigSize + " bytes");
+            }
+            if (!shard.isEmpty() && shardSize + entry.getValue() > maxConfigSize) {
+                shards.add(shard);
+                shard = new ArrayList<>();
+                shardSize = 0;
+            }
+            shard.add(entry.getKey());
+            shardSize += entry.getValue();
+        }
+        if (!shard.isEmpty()) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    private int getEncodedSize(String key, String value) {
+        return key.getBytes(StandardCharsets.UTF_8).length + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private int getEncodedSize(String key, byte[] value) {
+        // binary data is base64 encoded.
+        return key.getBytes(StandardCharsets.UTF_8).length + (value.length + 2) / 3 * 4;
+    }
+
+    /**
+     * Append a content hash to the names of secrets and config maps and mark them immutable. The deployment
+     * refers to the same models, hence its volumes point to the hashed names and any content change rolls the pods.
+     *
+     * @param secretModels    secrets mounted to the deployment
+     * @param configMapModels config maps mounted to the deployment
+     * @throws KubernetesPluginException if an error occurs while generating the hash
+     */
+    void setContentHashNames(Collection<SecretModel> secretModels, Collection<ConfigMapModel>
+            configMapModels) throws KubernetesPluginException {
+        for (SecretModel secretModel : secretModels) {
+            secretModel.setName(secretModel.getName() + "-" + KubernetesUtils.getContentHash(secretModel.getData()));
+            secretModel.setImmutable(true);
+        }
+        for (ConfigMapModel configMapModel : configMapModels) {
+            configMapModel.setName(configMapModel.getName() + "-" +
+                    KubernetesUtils.getContentHash(configMapModel.getData(), configMapModel.getBinaryData()));
+            configMapModel.setImmutable(true);
+        }
+    }
+
+    /**
+     * Process ScratchVolume annotations.
+     *
+     * @param attachmentNode Attachment Node
+     * @return Set of @{@link ScratchVolumeModel} objects
+     */
+    Set<ScratchVolumeModel> processScratchVolume(AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        Set<ScratchVolumeModel> scratchVolumeModels = new HashSet<>();
+        List<BLangRecordLiteral.BLangRecordKeyValue> keyValues =
+                ((BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr).getKeyValuePairs();
+        for (BLangRecordLiteral.BLangRecordKeyValue keyValue : keyValues) {
+            List<BLangExpression> scratchVolumeAnnotation = ((BLangArrayLiteral) keyValue.valueExpr).exprs;
+            for (BLangExpression bLangExpression : scratchVolumeAnnotation) {
+                ScratchVolumeModel scratchVolumeModel = new ScratchVolumeModel();
+                List<BLangRecordLiteral.BLangRecordKeyValue> annotationValues =
+                        ((BLangRecordLiteral) bLangExpression).getKeyValuePairs();
+                for (BLangRecordLiteral.BLangRecordKeyValue annotation : annotationValues) {
+                    ScratchVolumeConfig scratchVolumeConfig =
+                            ScratchVolumeConfig.valueOf(annotation.getKey().toString());
+                    String annotationValue = resolveValue(annotation.getValue().toString());
+                    switch (scratchVolumeConfig) {
+                        case name:
+                            scratchVolumeModel.setName(getValidName(annotationValue));
+                            break;
+                        case mountPath:
+                            scratchVolumeModel.setMountPath(annotationValue);
+                            break;
+                        case medium:
+                            scratchVolumeModel.setMedium(annotationValue);
+                            break;
+                        case sizeLimit:
+                            scratchVolumeModel.setSizeLimit(annotationValue);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                scratchVolumeModels.add(scratchVolumeModel);
+            }
+        }
+        return scratchVolumeModels;
+    }
+
     private Map<String, String> getDataForSecret(List<BLangExpression> data) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
-        for (BLangExpression bLangExpression : data) {
-            Path dataFilePath = Paths.get(((BLangLiteral) bLangExpression).getValue().toString());
+        Map<String, byte[]> contents = readDataFiles(data);
+        return new TreeMap<>(contents.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Base64.encodeBase64String(entry.getValue()))));
+    }
+
+    /**
+     * Read the data files of a secret or config map. Each data entry can be a file, a directory or a glob pattern.
+     * Files are read in parallel and keyed by file name in sorted order.
+     *
+     * @param data paths to data files, directories or glob patterns
+     * @return file name to content map
+     * @throws KubernetesPluginException if a file cannot be read or two files have the same name
+     */
+    Map<String, byte[]> readDataFiles(List<BLangExpression> data) throws KubernetesPluginException {
+        Map<String, Path> dataFilePaths = new TreeMap<>();
+        for (Path dataFilePath : getDataFilePaths(data)) {
             String key = String.valueOf(dataFilePath.getFileName());
-            String content = Base64.encodeBase64String(KubernetesUtils.readFileContent(dataFilePath));
-            dataMap.put(key, content);
+            Path existingPath = dataFilePaths.put(key, dataFilePath);
+            if (existingPath != null) {
+                throw new KubernetesPluginException("Duplicate file name " + key + " in data files " +
+                        existingPath + " and " + dataFilePath);
+            }
         }
-        return dataMap;
+        Map<Path, byte[]> fileContents = KubernetesUtils.readFileContents(dataFilePaths.values());
+        Map<String, byte[]> contents = new TreeMap<>();
+        dataFilePaths.forEach((key, dataFilePath) -> contents.put(key, fileContents.get(dataFilePath)));
+        return contents;
     }
 
-    private Map<String, String> getDataForConfigMap(List<BLangExpression> data) throws KubernetesPluginException {
-        Map<String, String> dataMap = new HashMap<>();
+    /**
+     * Expand directories and glob patterns of data entries into files. Directories are not traversed recursively
+     * since file names are used as keys, while a ** glob pattern matches files of all sub directories.
+     *
+     * @param data paths to data files, directories or glob patterns
+     * @return sorted list of file paths
+     * @throws KubernetesPluginException if a directory cannot be listed or a directory or pattern matches no files
+     */
+    private List<Path> getDataFilePaths(List<BLangExpression> data) throws KubernetesPluginException {
+        Set<Path> dataFilePaths = new TreeSet<>();
         for (BLangExpression bLangExpression : data) {
-            Path dataFilePath = Paths.get(((BLangLiteral) bLangExpression).getValue().toString());
-            String key = String.valueOf(dataFilePath.getFileName());
-            String content = new String(KubernetesUtils.readFileContent(dataFilePath), StandardCharsets.UTF_8);
-            dataMap.put(key, content);
+            String dataPath = ((BLangLiteral) bLangExpression).getValue().toString();
+            try {
+                List<Path> matches;
+                if (GLOB_PATTERN.matcher(dataPath).find()) {
+                    matches = getGlobMatches(dataPath);
+                } else if (Files.isDirectory(Paths.get(dataPath))) {
+                    try (Stream<Path> files = Files.list(Paths.get(dataPath))) {
+                        matches = files.filter(Files::isRegularFile).collect(Collectors.toList());
+                    }
+                } else {
+                    matches = Collections.singletonList(Paths.get(dataPath));
+                }
+                if (matches.isEmpty()) {
+                    throw new KubernetesPluginException("Unable to find data files matching " + dataPath);
+                }
+                dataFilePaths.addAll(matches);
+            } catch (IOException e) {
+                throw new KubernetesPluginException("Unable to list data files of " + dataPath, e);
+            }
+        }
+        return new ArrayList<>(dataFilePaths);
+    }
+
+    private List<Path> getGlobMatches(String globPattern) throws IOException, KubernetesPluginException {
+        // walk from the deepest directory which does not contain a glob character. The pattern is split by hand
+        // since glob characters are not valid in paths on every platform.
+        String[] elements = globPattern.split("/", -1);
+        StringBuilder baseDirPath = new StringBuilder();
+        int depth = 0;
+        while (depth < elements.length && !GLOB_PATTERN.matcher(elements[depth]).find()) {
+            baseDirPath.append(elements[depth]).append('/');
+            depth++;
+        }
+        Path baseDir = Paths.get(baseDirPath.toString());
+        int maxDepth = globPattern.contains("**") ? Integer.MAX_VALUE : elements.length - depth;
+        if (!Files.isDirectory(baseDir)) {
+            throw new KubernetesPluginException("Unable to find the directory " + baseDir + " of data pattern " +
+                    globPattern);
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + globPattern);
+        try (Stream<Path> files = Files.walk(baseDir, maxDepth)) {
+            return files.filter(path -> Files.isRegularFile(path) && matcher.matches(path))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Add data files to a config map. Files which are not valid UTF-8 text, or are declared binary, are added to
+     * binaryData as raw bytes so that they are not corrupted by a String conversion.
+     *
+     * @param configMapModel config map model
+     * @param data           paths to data files
+     * @param binary         add the files to binaryData without checking the content
+     * @throws KubernetesPluginException if a file cannot be read or the same file name is added twice
+     */
+    private void addDataForConfigMap(ConfigMapModel configMapModel, List<BLangExpression> data, boolean binary)
+            throws KubernetesPluginException {
+        Map<String, byte[]> contents = readDataFiles(data);
+        Map<String, String> textContents = new HashMap<>();
+        if (!binary) {
+            textContents = contents.entrySet().parallelStream()
+                    .map(entry -> new AbstractMap.SimpleEntry<>(entry.getKey(), decodeText(entry.getValue())))
+                    .filter(entry -> entry.getValue() != null)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            String key = entry.getKey();
+            byte[] content = entry.getValue();
+            if (configMapModel.getData().containsKey(key) || configMapModel.getBinaryData().containsKey(key)) {
+                throw new KubernetesPluginException("Duplicate file " + key + " in config map: " +
+                        configMapModel.getName());
+            }
+            String textContent = textContents.get(key);
+            if (textContent == null) {
+                configMapModel.getBinaryData().put(key, content);
+            } else {
+                configMapModel.getData().put(key, textContent);
+            }
+        }
+    }
+
+    /**
+     * Decode the content as UTF-8 text.
+     *
+     * @param content file content
+     * @return decoded text or null if the content is binary
+     */
+    private String decodeText(byte[] content) {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try {
+            String text = decoder.decode(ByteBuffer.wrap(content)).toString();
+            return text.indexOf('\0') < 0 ? text : null;
+        } catch (CharacterCodingException e) {
+            return null;
         }
-        return dataMap;
     }
 
     private String getValidName(String name) {
         return name.toLowerCase(Locale.ENGLISH).replace("_", "-");
     }
 
+    /**
+     * Get a valid kubernetes port name, which is at most 15 lower case alphanumeric characters or '-'.
+     *
+     * @param name   port name
+     * @param strict throw an error instead of shortening names that are too long
+     * @return valid port name
+     * @throws KubernetesPluginException if strict and the name is too long
+     */
+    private String getValidPortName(String name, boolean strict) throws KubernetesPluginException {
+        // port names cannot contain consecutive hyphens.
+        String portName = getValidName(name).replaceAll("[^a-z0-9-]", "").replaceAll("-{2,}", "-");
+        if (portName.length() > MAX_PORT_NAME_LENGTH) {
+            if (strict) {
+                throw new KubernetesPluginException("Invalid port name: " + name + ". Port names can have at most " +
+                        MAX_PORT_NAME_LENGTH + " characters.");
+            }
+            portName = portName.substring(0, MAX_PORT_NAME_LENGTH);
+        }
+        return portName.replaceAll("^-+|-+$", "");
+    }
+
     /**
      * Enum class for DeploymentConfiguration.
      */
     private enum DeploymentConfiguration {
         name,
+        kind,
         labels,
         replicas,
         enableLiveness,
@@ -906,7 +1964,39 @@ class KubernetesAnnotationProcessor {
         password,
         baseImage,
         push,
-        dockerCertPath
+        dockerCertPath,
+        strategy,
+        maxSurge,
+        maxUnavailable,
+        preserveCapacity,
+        minReadySeconds,
+        progressDeadlineSeconds,
+        revisionHistoryLimit,
+        drainSeconds,
+        terminationGracePeriodSeconds,
+        podAntiAffinity,
+        antiAffinityTopologyKey,
+        topologySpreadKey,
+        maxSkew,
+        whenUnsatisfiable,
+        podAffinity,
+        podAffinityWeight,
+        podAffinityTopologyKey,
+        nodeSelector,
+        requiredNodeAffinity,
+        preferredNodeAffinity,
+        tolerations,
+        schedule,
+        concurrencyPolicy,
+        parallelism,
+        completions,
+        indexedCompletion,
+        backoffLimit,
+        activeDeadlineSeconds,
+        restartPolicy,
+        projectedVolumes,
+        immutableConfig,
+        maxConfigSize
     }
 
     /**
@@ -916,7 +2006,16 @@ class KubernetesAnnotationProcessor {
         name,
         labels,
         serviceType,
-        port
+        port,
+        portName,
+        consolidate,
+        externalTrafficPolicy,
+        internalTrafficPolicy,
+        topologyAwareRouting,
+        sessionAffinity,
+        sessionAffinityTimeout,
+        headless,
+        publishNotReadyAddresses
     }
 
     /**
@@ -929,7 +2028,33 @@ class KubernetesAnnotationProcessor {
         path,
         targetPath,
         ingressClass,
-        enableTLS
+        enableTLS,
+        backendProtocol,
+        consolidate,
+        tlsMode,
+        tlsSecretName,
+        sslSessionTimeout,
+        sslSessionTickets,
+        http2MaxConcurrentStreams,
+        enableCache,
+        cacheZone,
+        cachePaths,
+        cacheTTL,
+        cacheKey,
+        limitRps,
+        limitRpm,
+        limitBurstMultiplier,
+        limitConnections,
+        limitAllowList,
+        tuningPreset,
+        upstreamKeepalive,
+        proxyBuffering,
+        proxyBufferSize,
+        proxyBuffersNumber,
+        proxyConnectTimeout,
+        proxySendTimeout,
+        proxyReadTimeout,
+        proxyBodySize
     }
 
     /**
@@ -940,7 +2065,17 @@ class KubernetesAnnotationProcessor {
         labels,
         minReplicas,
         maxReplicas,
-        cpuPercentage
+        cpuPercentage,
+        scaleUpStabilizationWindowSeconds,
+        scaleUpPercent,
+        scaleUpPods,
+        scaleUpPeriodSeconds,
+        scaleUpSelectPolicy,
+        scaleDownStabilizationWindowSeconds,
+        scaleDownPercent,
+        scaleDownPods,
+        scaleDownPeriodSeconds,
+        scaleDownSelectPolicy
     }
 
     /**
@@ -950,7 +2085,8 @@ class KubernetesAnnotationProcessor {
         name,
         mountPath,
         readOnly,
-        data
+        data,
+        binaryData
     }
 
     /**
@@ -961,6 +2097,20 @@ class KubernetesAnnotationProcessor {
         mountPath,
         readOnly,
         accessMode,
-        volumeClaimSize
+        volumeClaimSize,
+        storageClassName,
+        volumeMode,
+        dataSource,
+        dataSourceKind
+    }
+
+    /**
+     * Enum class for scratch volume configurations.
+     */
+    private enum ScratchVolumeConfig {
+        name,
+        mountPath,
+        medium,
+        sizeLimit
     }
 }
@@ -28,4 +28,40 @@ public class KubernetesConstants {
     public static final String DEPLOYMENT_NAMESPACE_DEFAULT = "default";
     public static final String DEPLOYMENT_IMAGE_PULL_POLICY_DEFAULT = "IfNotPresent";
     public static final String DEPLOYMENT_LIVENESS_DISABLE = "disable";
+    public static final String DEPLOYMENT_KIND_DEPLOYMENT = "Deployment";
+    public static final String DEPLOYMENT_KIND_STATEFUL_SET = "StatefulSet";
+    public static final String DEPLOYMENT_KIND_JOB = "Job";
+    public static final String DEPLOYMENT_KIND_CRON_JOB = "CronJob";
+    public static final String MAIN_FUNCTION_NAME = "main";
+    public static final String JOB_RESTART_POLICY_DEFAULT = "OnFailure";
+    public static final String DEPLOYMENT_STRATEGY_ROLLING_UPDATE = "RollingUpdate";
+    public static final String DEPLOYMENT_STRATEGY_RECREATE = "Recreate";
+    public static final String DEPLOYMENT_DRAIN_FILE = "/tmp/ballerina-drain";
+    public static final int DEPLOYMENT_DRAIN_FAILURE_THRESHOLD = 2;
+    public static final int DEPLOYMENT_STARTUP_FAILURE_THRESHOLD = 60;
+    public static final int DEPLOYMENT_SHUTDOWN_SECONDS_DEFAULT = 30;
+    public static final String SERVICE_TRAFFIC_POLICY_CLUSTER = "Cluster";
+    public static final String SERVICE_TRAFFIC_POLICY_LOCAL = "Local";
+    public static final String SERVICE_SESSION_AFFINITY_NONE = "None";
+    public static final String SERVICE_SESSION_AFFINITY_CLIENT_IP = "ClientIP";
+    public static final String DEPLOYMENT_AFFINITY_PREFERRED = "preferred";
+    public static final String DEPLOYMENT_AFFINITY_REQUIRED = "required";
+    public static final int DEPLOYMENT_AFFINITY_WEIGHT = 100;
+    public static final String DEPLOYMENT_SPREAD_SCHEDULE_ANYWAY = "ScheduleAnyway";
+    public static final String DEPLOYMENT_SPREAD_DO_NOT_SCHEDULE = "DoNotSchedule";
+    public static final String INGRESS_TLS_PASSTHROUGH = "passthrough";
+    public static final String INGRESS_TLS_EDGE = "edge";
+    public static final String INGRESS_TLS_REENCRYPT = "reencrypt";
+    public static final String INGRESS_BACKEND_HTTP = "HTTP";
+    public static final String INGRESS_BACKEND_HTTPS = "HTTPS";
+    public static final String INGRESS_BACKEND_GRPC = "GRPC";
+    public static final String INGRESS_BACKEND_GRPCS = "GRPCS";
+    public static final String SECRET_TYPE_TLS = "kubernetes.io/tls";
+    public static final String SCRATCH_MEDIUM_DISK = "Disk";
+    public static final String SCRATCH_MEDIUM_MEMORY = "Memory";
+    public static final String VOLUME_MODE_FILESYSTEM = "Filesystem";
+    public static final String VOLUME_MODE_BLOCK = "Block";
+    public static final String DATA_SOURCE_KIND_CLAIM = "PersistentVolumeClaim";
+    public static final String DATA_SOURCE_KIND_SNAPSHOT = "VolumeSnapshot";
+    public static final String DATA_SOURCE_SNAPSHOT_API_GROUP = "snapshot.storage.k8s.io";
 }
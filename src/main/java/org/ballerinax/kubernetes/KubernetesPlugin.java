@@ -22,6 +22,7 @@ import org.ballerinalang.compiler.plugins.AbstractCompilerPlugin;
 import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.EndpointNode;
+import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.util.diagnostic.Diagnostic;
 import org.ballerinalang.util.diagnostic.DiagnosticLog;
@@ -110,6 +111,10 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
                             dlog.logDiagnostic(Diagnostic.Kind.ERROR, serviceNode.getPosition(), e.getMessage());
                         }
                         break;
+                    case "ScratchVolume":
+                        kubernetesDataHolder.addScratchVolumes(
+                                kubernetesAnnotationProcessor.processScratchVolume(attachmentNode));
+                        break;
                     default:
                         break;
                 }
@@ -129,6 +134,36 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
         return endpoints;
     }
 
+    @Override
+    public void process(FunctionNode functionNode, List<AnnotationAttachmentNode> annotations) {
+        if (!KubernetesConstants.MAIN_FUNCTION_NAME.equals(functionNode.getName().getValue())) {
+            dlog.logDiagnostic(Diagnostic.Kind.ERROR, functionNode.getPosition(), "Kubernetes annotations are " +
+                    "only supported on the main function: " + functionNode.getName().getValue());
+            return;
+        }
+        setCanProcess(true);
+        for (AnnotationAttachmentNode attachmentNode : annotations) {
+            String annotationKey = attachmentNode.getAnnotationName().getValue();
+            try {
+                switch (annotationKey) {
+                    case "Deployment":
+                        // a program without services runs to completion, so it is deployed as a job by default.
+                        kubernetesDataHolder.setDeploymentModel(kubernetesAnnotationProcessor.processDeployment
+                                (attachmentNode, KubernetesConstants.DEPLOYMENT_KIND_JOB));
+                        break;
+                    case "ScratchVolume":
+                        kubernetesDataHolder.addScratchVolumes(
+                                kubernetesAnnotationProcessor.processScratchVolume(attachmentNode));
+                        break;
+                    default:
+                        break;
+                }
+            } catch (KubernetesPluginException e) {
+                dlog.logDiagnostic(Diagnostic.Kind.ERROR, functionNode.getPosition(), e.getMessage());
+            }
+        }
+    }
+
     @Override
     public void process(EndpointNode endpointNode, List<AnnotationAttachmentNode> annotations) {
         String endpointName = endpointNode.getName().getValue();
@@ -175,6 +210,11 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
                                 .processSecureSocketAnnotation(endpointName, sslKeyValues);
                         kubernetesDataHolder.addEndpointSecret(endpointName, secretModels);
                         kubernetesDataHolder.addSecrets(secretModels);
+                        SecretModel tlsSecretModel = kubernetesAnnotationProcessor
+                                .processTLSSecret(endpointName, sslKeyValues);
+                        if (tlsSecretModel != null) {
+                            kubernetesDataHolder.addEndpointTLSSecret(endpointName, tlsSecretModel);
+                        }
                     } catch (KubernetesPluginException e) {
                         dlog.logDiagnostic(Diagnostic.Kind.ERROR, null, e.getMessage());
                     }
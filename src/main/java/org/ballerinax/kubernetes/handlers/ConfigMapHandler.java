@@ -4,9 +4,13 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.apache.commons.codec.binary.Base64;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ConfigMapModel;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * Generates kubernetes Config Map.
  */
@@ -27,6 +31,18 @@ public class ConfigMapHandler implements ArtifactHandler {
                 .endMetadata()
                 .withData(configMapModel.getData())
                 .build();
+        if (configMapModel.getBinaryData() != null && !configMapModel.getBinaryData().isEmpty()) {
+            // binaryData is not available in the bundled kubernetes model. The yaml serializer would tag raw bytes
+            // as !!binary, which kubectl cannot read, hence the content is base64 encoded here.
+            Map<String, String> binaryData = new TreeMap<>();
+            configMapModel.getBinaryData().forEach((key, content) ->
+                    binaryData.put(key, Base64.encodeBase64String(content)));
+            configMap.setAdditionalProperty("binaryData", binaryData);
+        }
+        if (configMapModel.isImmutable()) {
+            // immutable is not available in the bundled kubernetes model.
+            configMap.setAdditionalProperty("immutable", true);
+        }
         try {
             return SerializationUtils.dumpWithoutRuntimeStateAsYaml(configMap);
         } catch (JsonProcessingException e) {
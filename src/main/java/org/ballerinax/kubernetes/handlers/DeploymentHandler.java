@@ -20,34 +20,85 @@ package org.ballerinax.kubernetes.handlers;
 
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.CronJob;
+import io.fabric8.kubernetes.api.model.CronJobBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.ExecAction;
+import io.fabric8.kubernetes.api.model.ExecActionBuilder;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.Job;
+import io.fabric8.kubernetes.api.model.JobBuilder;
+import io.fabric8.kubernetes.api.model.JobSpec;
+import io.fabric8.kubernetes.api.model.JobSpecBuilder;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Lifecycle;
+import io.fabric8.kubernetes.api.model.LifecycleBuilder;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.NodeAffinityBuilder;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirement;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirementBuilder;
+import io.fabric8.kubernetes.api.model.NodeSelectorTerm;
+import io.fabric8.kubernetes.api.model.NodeSelectorTermBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PodAffinity;
+import io.fabric8.kubernetes.api.model.PodAffinityBuilder;
+import io.fabric8.kubernetes.api.model.PodAffinityTerm;
+import io.fabric8.kubernetes.api.model.PodAffinityTermBuilder;
+import io.fabric8.kubernetes.api.model.PodAntiAffinity;
+import io.fabric8.kubernetes.api.model.PodAntiAffinityBuilder;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.QuantityBuilder;
 import io.fabric8.kubernetes.api.model.TCPSocketAction;
 import io.fabric8.kubernetes.api.model.TCPSocketActionBuilder;
+import io.fabric8.kubernetes.api.model.Toleration;
+import io.fabric8.kubernetes.api.model.TolerationBuilder;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+import io.fabric8.kubernetes.api.model.VolumeProjection;
+import io.fabric8.kubernetes.api.model.VolumeProjectionBuilder;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTerm;
+import io.fabric8.kubernetes.api.model.WeightedPodAffinityTermBuilder;
 import io.fabric8.kubernetes.api.model.extensions.Deployment;
 import io.fabric8.kubernetes.api.model.extensions.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.extensions.DeploymentStrategy;
+import io.fabric8.kubernetes.api.model.extensions.DeploymentStrategyBuilder;
+import io.fabric8.kubernetes.api.model.extensions.RollingUpdateDeployment;
+import io.fabric8.kubernetes.api.model.extensions.RollingUpdateDeploymentBuilder;
+import io.fabric8.kubernetes.api.model.extensions.StatefulSet;
+import io.fabric8.kubernetes.api.model.extensions.StatefulSetBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ConfigMapModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
+import org.ballerinax.kubernetes.models.ScratchVolumeModel;
 import org.ballerinax.kubernetes.models.SecretModel;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Generates kubernetes deployment from annotations.
@@ -60,10 +111,11 @@ public class DeploymentHandler implements ArtifactHandler {
         this.deploymentModel = deploymentModel;
     }
 
-    private List<ContainerPort> populatePorts(Set<Integer> ports) {
+    private List<ContainerPort> populatePorts(Set<Integer> ports, Map<Integer, String> portNames) {
         List<ContainerPort> containerPorts = new ArrayList<>();
         for (int port : ports) {
             ContainerPort containerPort = new ContainerPortBuilder()
+                    .withName(portNames.get(port))
                     .withContainerPort(port)
                     .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
                     .build();
@@ -74,15 +126,33 @@ public class DeploymentHandler implements ArtifactHandler {
 
     private List<VolumeMount> populateVolumeMounts(DeploymentModel deploymentModel) {
         List<VolumeMount> volumeMounts = new ArrayList<>();
-        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+        List<String> projectedMountPaths = getProjectedMountPaths(deploymentModel);
+        for (int i = 0; i < projectedMountPaths.size(); i++) {
             VolumeMount volumeMount = new VolumeMountBuilder()
-                    .withMountPath(secretModel.getMountPath())
-                    .withName(secretModel.getName() + "-volume")
-                    .withReadOnly(secretModel.isReadOnly())
+                    .withMountPath(projectedMountPaths.get(i))
+                    .withName(getProjectedVolumeName(i))
+                    .withReadOnly(true)
                     .build();
             volumeMounts.add(volumeMount);
         }
+        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            // a secret shared by several endpoints is mounted at each of their mount paths.
+            for (String mountPath : getMountPaths(secretModel)) {
+                if (projectedMountPaths.contains(mountPath)) {
+                    continue;
+                }
+                VolumeMount volumeMount = new VolumeMountBuilder()
+                        .withMountPath(mountPath)
+                        .withName(secretModel.getName() + "-volume")
+                        .withReadOnly(secretModel.isReadOnly())
+                        .build();
+                volumeMounts.add(volumeMount);
+            }
+        }
         for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            if (projectedMountPaths.contains(configMapModel.getMountPath())) {
+                continue;
+            }
             VolumeMount volumeMount = new VolumeMountBuilder()
                     .withMountPath(configMapModel.getMountPath())
                     .withName(configMapModel.getName() + "-volume")
@@ -91,6 +161,9 @@ public class DeploymentHandler implements ArtifactHandler {
             volumeMounts.add(volumeMount);
         }
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            if (isBlockVolume(volumeClaimModel)) {
+                continue;
+            }
             VolumeMount volumeMount = new VolumeMountBuilder()
                     .withMountPath(volumeClaimModel.getMountPath())
                     .withName(volumeClaimModel.getName() + "-volume")
@@ -98,6 +171,13 @@ public class DeploymentHandler implements ArtifactHandler {
                     .build();
             volumeMounts.add(volumeMount);
         }
+        for (ScratchVolumeModel scratchVolumeModel : deploymentModel.getScratchVolumeModels()) {
+            VolumeMount volumeMount = new VolumeMountBuilder()
+                    .withMountPath(scratchVolumeModel.getMountPath())
+                    .withName(scratchVolumeModel.getName() + "-volume")
+                    .build();
+            volumeMounts.add(volumeMount);
+        }
         return volumeMounts;
     }
 
@@ -110,7 +190,9 @@ public class DeploymentHandler implements ArtifactHandler {
                 .withPorts(containerPorts)
                 .withEnv(populateEnvVar(deploymentModel.getEnv()))
                 .withVolumeMounts(populateVolumeMounts(deploymentModel))
-                .withLivenessProbe(generateLivenessProbe(deploymentModel))
+                .withLivenessProbe(isJob(deploymentModel) ? null : generateLivenessProbe(deploymentModel))
+                .withReadinessProbe(isJob(deploymentModel) ? null : generateReadinessProbe(deploymentModel))
+                .withLifecycle(isJob(deploymentModel) ? null : generateLifecycle(deploymentModel))
                 .build();
     }
 
@@ -126,9 +208,20 @@ public class DeploymentHandler implements ArtifactHandler {
         return envVars;
     }
 
-    private List<Volume> populateVolume(DeploymentModel deploymentModel) {
+    private List<Volume> populateVolume(DeploymentModel deploymentModel) throws KubernetesPluginException {
         List<Volume> volumes = new ArrayList<>();
+        for (ScratchVolumeModel scratchVolumeModel : deploymentModel.getScratchVolumeModels()) {
+            volumes.add(generateScratchVolume(scratchVolumeModel));
+        }
+        List<String> projectedMountPaths = getProjectedMountPaths(deploymentModel);
+        for (int i = 0; i < projectedMountPaths.size(); i++) {
+            volumes.add(generateProjectedVolume(deploymentModel, projectedMountPaths.get(i),
+                    getProjectedVolumeName(i)));
+        }
         for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            if (projectedMountPaths.containsAll(getMountPaths(secretModel))) {
+                continue;
+            }
             Volume volume = new VolumeBuilder()
                     .withName(secretModel.getName() + "-volume")
                     .withNewSecret()
@@ -138,6 +231,9 @@ public class DeploymentHandler implements ArtifactHandler {
             volumes.add(volume);
         }
         for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            if (projectedMountPaths.contains(configMapModel.getMountPath())) {
+                continue;
+            }
             Volume volume = new VolumeBuilder()
                     .withName(configMapModel.getName() + "-volume")
                     .withNewConfigMap()
@@ -146,6 +242,10 @@ public class DeploymentHandler implements ArtifactHandler {
                     .build();
             volumes.add(volume);
         }
+        if (isStatefulSet(deploymentModel)) {
+            // claims are created per replica from the volume claim templates.
+            return volumes;
+        }
         for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
             Volume volume = new VolumeBuilder()
                     .withName(volumeClaimModel.getName() + "-volume")
@@ -158,6 +258,118 @@ public class DeploymentHandler implements ArtifactHandler {
         return volumes;
     }
 
+    /**
+     * Get the mount paths shared by more than one secret or config map. When projected volumes are enabled, the
+     * sources of each of these mount paths are combined into a single projected volume.
+     *
+     * @param deploymentModel deployment model
+     * @return sorted list of mount paths
+     */
+    private List<String> getProjectedMountPaths(DeploymentModel deploymentModel) {
+        List<String> projectedMountPaths = new ArrayList<>();
+        if (!deploymentModel.isProjectedVolumes()) {
+            return projectedMountPaths;
+        }
+        Map<String, Integer> sourceCount = new TreeMap<>();
+        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            for (String mountPath : getMountPaths(secretModel)) {
+                sourceCount.merge(mountPath, 1, Integer::sum);
+            }
+        }
+        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            sourceCount.merge(configMapModel.getMountPath(), 1, Integer::sum);
+        }
+        sourceCount.forEach((mountPath, count) -> {
+            if (count > 1) {
+                projectedMountPaths.add(mountPath);
+            }
+        });
+        return projectedMountPaths;
+    }
+
+    private List<String> getMountPaths(SecretModel secretModel) {
+        List<String> mountPaths = new ArrayList<>();
+        mountPaths.add(secretModel.getMountPath());
+        mountPaths.addAll(secretModel.getAdditionalMountPaths());
+        return mountPaths;
+    }
+
+    private String getProjectedVolumeName(int index) {
+        return "projected-" + index + "-volume";
+    }
+
+    private Volume generateProjectedVolume(DeploymentModel deploymentModel, String mountPath, String volumeName)
+            throws KubernetesPluginException {
+        // sources are sorted by name so that the generated volume does not change between builds.
+        Map<String, VolumeProjection> sources = new TreeMap<>();
+        Set<String> files = new HashSet<>();
+        for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            if (getMountPaths(secretModel).contains(mountPath)) {
+                addProjectedFiles(files, secretModel.getData(), mountPath);
+                sources.put("secret:" + secretModel.getName(), new VolumeProjectionBuilder()
+                        .withNewSecret()
+                        .withName(secretModel.getName())
+                        .endSecret()
+                        .build());
+            }
+        }
+        for (ConfigMapModel configMapModel : deploymentModel.getConfigMapModels()) {
+            if (mountPath.equals(configMapModel.getMountPath())) {
+                addProjectedFiles(files, configMapModel.getData(), mountPath);
+                addProjectedFiles(files, configMapModel.getBinaryData(), mountPath);
+                sources.put("configmap:" + configMapModel.getName(), new VolumeProjectionBuilder()
+                        .withNewConfigMap()
+                        .withName(configMapModel.getName())
+                        .endConfigMap()
+                        .build());
+            }
+        }
+        return new VolumeBuilder()
+                .withName(volumeName)
+                .withNewProjected()
+                .withSources(new ArrayList<>(sources.values()))
+                .endProjected()
+                .build();
+    }
+
+    private void addProjectedFiles(Set<String> files, Map<String, ?> data, String mountPath) throws
+            KubernetesPluginException {
+        if (data == null) {
+            return;
+        }
+        for (String file : data.keySet()) {
+            if (!files.add(file)) {
+                throw new KubernetesPluginException("Duplicate file " + file + " in projected volume mounted at " +
+                        mountPath);
+            }
+        }
+    }
+
+    private Volume generateScratchVolume(ScratchVolumeModel scratchVolumeModel) throws KubernetesPluginException {
+        String medium = scratchVolumeModel.getMedium();
+        if (!KubernetesConstants.SCRATCH_MEDIUM_DISK.equals(medium) &&
+                !KubernetesConstants.SCRATCH_MEDIUM_MEMORY.equals(medium)) {
+            throw new KubernetesPluginException("Invalid medium: " + medium + " in scratch volume: " +
+                    scratchVolumeModel.getName() + ". Supported values are " +
+                    KubernetesConstants.SCRATCH_MEDIUM_DISK + " and " + KubernetesConstants.SCRATCH_MEDIUM_MEMORY +
+                    ".");
+        }
+        Quantity sizeLimit = null;
+        if (scratchVolumeModel.getSizeLimit() != null) {
+            sizeLimit = new QuantityBuilder()
+                    .withAmount(scratchVolumeModel.getSizeLimit())
+                    .build();
+        }
+        // without a medium the volume is placed on the node disk, Memory mounts a tmpfs.
+        return new VolumeBuilder()
+                .withName(scratchVolumeModel.getName() + "-volume")
+                .withNewEmptyDir()
+                .withMedium(KubernetesConstants.SCRATCH_MEDIUM_MEMORY.equals(medium) ? medium : null)
+                .withSizeLimit(sizeLimit)
+                .endEmptyDir()
+                .build();
+    }
+
     private Probe generateLivenessProbe(DeploymentModel deploymentModel) {
         if (KubernetesConstants.DEPLOYMENT_LIVENESS_DISABLE.equals(deploymentModel.getEnableLiveness())) {
             return null;
@@ -172,19 +384,415 @@ public class DeploymentHandler implements ArtifactHandler {
                 .build();
     }
 
+    private Probe generateReadinessProbe(DeploymentModel deploymentModel) {
+        if (deploymentModel.getDrainSeconds() <= 0) {
+            return null;
+        }
+        // report not ready once the preStop hook starts draining the pod. The hook runs sh as well, and a second
+        // failure is required so that a single slow probe does not drop the pod from its endpoints.
+        ExecAction execAction = new ExecActionBuilder()
+                .withCommand("sh", "-c", "test ! -f " + KubernetesConstants.DEPLOYMENT_DRAIN_FILE)
+                .build();
+        return new ProbeBuilder()
+                .withInitialDelaySeconds(deploymentModel.getInitialDelaySeconds())
+                .withPeriodSeconds(deploymentModel.getPeriodSeconds())
+                .withFailureThreshold(KubernetesConstants.DEPLOYMENT_DRAIN_FAILURE_THRESHOLD)
+                .withExec(execAction)
+                .build();
+    }
+
+    private Probe generateStartupProbe(DeploymentModel deploymentModel) {
+        // a container has a single readiness probe, so the port is checked before the drain probe starts.
+        int startupPort = getStartupPort(deploymentModel);
+        if (deploymentModel.getDrainSeconds() <= 0 || startupPort == 0) {
+            return null;
+        }
+        TCPSocketAction tcpSocketAction = new TCPSocketActionBuilder()
+                .withNewPort(startupPort)
+                .build();
+        return new ProbeBuilder()
+                .withInitialDelaySeconds(deploymentModel.getInitialDelaySeconds())
+                .withPeriodSeconds(deploymentModel.getPeriodSeconds())
+                .withFailureThreshold(KubernetesConstants.DEPLOYMENT_STARTUP_FAILURE_THRESHOLD)
+                .withTcpSocket(tcpSocketAction)
+                .build();
+    }
+
+    private void setStartupProbe(PodSpec podSpec) {
+        Probe startupProbe = generateStartupProbe(deploymentModel);
+        if (startupProbe != null) {
+            // startupProbe is not available in the bundled kubernetes model.
+            podSpec.getContainers().get(0).setAdditionalProperty("startupProbe", startupProbe);
+        }
+    }
+
+    private int getStartupPort(DeploymentModel deploymentModel) {
+        if (deploymentModel.getLivenessPort() > 0) {
+            return deploymentModel.getLivenessPort();
+        }
+        if (deploymentModel.getPorts() != null && !deploymentModel.getPorts().isEmpty()) {
+            return Collections.min(deploymentModel.getPorts());
+        }
+        return 0;
+    }
+
+    private Lifecycle generateLifecycle(DeploymentModel deploymentModel) {
+        if (deploymentModel.getDrainSeconds() <= 0) {
+            return null;
+        }
+        ExecAction execAction = new ExecActionBuilder()
+                .withCommand("sh", "-c", "touch " + KubernetesConstants.DEPLOYMENT_DRAIN_FILE + " && sleep " +
+                        deploymentModel.getDrainSeconds())
+                .build();
+        return new LifecycleBuilder()
+                .withNewPreStop()
+                .withExec(execAction)
+                .endPreStop()
+                .build();
+    }
+
+    private Long getTerminationGracePeriodSeconds(DeploymentModel deploymentModel) throws
+            KubernetesPluginException {
+        Integer gracePeriod = deploymentModel.getTerminationGracePeriodSeconds();
+        int drainSeconds = deploymentModel.getDrainSeconds();
+        if (gracePeriod == null) {
+            if (drainSeconds <= 0) {
+                return null;
+            }
+            // leave the default shutdown time for the service after draining.
+            return (long) (drainSeconds + KubernetesConstants.DEPLOYMENT_SHUTDOWN_SECONDS_DEFAULT);
+        }
+        if (gracePeriod <= drainSeconds) {
+            throw new KubernetesPluginException("terminationGracePeriodSeconds should be greater than drainSeconds " +
+                    "in deployment: " + deploymentModel.getName());
+        }
+        return gracePeriod.longValue();
+    }
+
+    private LabelSelector generateSelfSelector(DeploymentModel deploymentModel) {
+        return new LabelSelectorBuilder()
+                .addToMatchLabels(KubernetesConstants.KUBERNETES_SELECTOR_KEY,
+                        deploymentModel.getLabels().get(KubernetesConstants.KUBERNETES_SELECTOR_KEY))
+                .build();
+    }
+
+    private PodAntiAffinity generatePodAntiAffinity(DeploymentModel deploymentModel) throws
+            KubernetesPluginException {
+        String antiAffinity = deploymentModel.getPodAntiAffinity();
+        if (antiAffinity == null) {
+            return null;
+        }
+        // keep replicas of this deployment apart from each other.
+        PodAffinityTerm podAffinityTerm = new PodAffinityTermBuilder()
+                .withLabelSelector(generateSelfSelector(deploymentModel))
+                .withTopologyKey(deploymentModel.getAntiAffinityTopologyKey())
+                .build();
+        switch (antiAffinity) {
+            case KubernetesConstants.DEPLOYMENT_AFFINITY_REQUIRED:
+                return new PodAntiAffinityBuilder()
+                        .withRequiredDuringSchedulingIgnoredDuringExecution(podAffinityTerm)
+                        .build();
+            case KubernetesConstants.DEPLOYMENT_AFFINITY_PREFERRED:
+                return new PodAntiAffinityBuilder()
+                        .withPreferredDuringSchedulingIgnoredDuringExecution(new WeightedPodAffinityTermBuilder()
+                                .withWeight(KubernetesConstants.DEPLOYMENT_AFFINITY_WEIGHT)
+                                .withPodAffinityTerm(podAffinityTerm)
+                                .build())
+                        .build();
+            default:
+                throw new KubernetesPluginException("Invalid pod anti affinity: " + antiAffinity + ". Supported " +
+                        "values are preferred and required.");
+        }
+    }
+
+    private PodAffinity generatePodAffinity(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        List<WeightedPodAffinityTerm> affinityTerms = new ArrayList<>();
+        if (!deploymentModel.getPodAffinityLabels().isEmpty() && (deploymentModel.getPodAffinityWeight() < 1 ||
+                deploymentModel.getPodAffinityWeight() > KubernetesConstants.DEPLOYMENT_AFFINITY_WEIGHT)) {
+            throw new KubernetesPluginException("Invalid podAffinityWeight: " + deploymentModel
+                    .getPodAffinityWeight() + ". Value should be between 1 and " + KubernetesConstants
+                    .DEPLOYMENT_AFFINITY_WEIGHT + ".");
+        }
+        // prefer nodes already running the pods this deployment calls.
+        for (Map<String, String> labels : deploymentModel.getPodAffinityLabels()) {
+            PodAffinityTerm podAffinityTerm = new PodAffinityTermBuilder()
+                    .withNewLabelSelector()
+                    .withMatchLabels(labels)
+                    .endLabelSelector()
+                    .withTopologyKey(deploymentModel.getPodAffinityTopologyKey())
+                    .build();
+            affinityTerms.add(new WeightedPodAffinityTermBuilder()
+                    .withWeight(deploymentModel.getPodAffinityWeight())
+                    .withPodAffinityTerm(podAffinityTerm)
+                    .build());
+        }
+        if (affinityTerms.isEmpty()) {
+            return null;
+        }
+        return new PodAffinityBuilder()
+                .withPreferredDuringSchedulingIgnoredDuringExecution(affinityTerms)
+                .build();
+    }
+
+    private NodeSelectorTerm generateNodeSelectorTerm(Map<String, String> nodeLabels) {
+        List<NodeSelectorRequirement> requirements = new ArrayList<>();
+        nodeLabels.forEach((key, value) -> requirements.add(new NodeSelectorRequirementBuilder()
+                .withKey(key)
+                .withOperator("In")
+                .withValues(value)
+                .build()));
+        return new NodeSelectorTermBuilder()
+                .withMatchExpressions(requirements)
+                .build();
+    }
+
+    private NodeAffinity generateNodeAffinity(DeploymentModel deploymentModel) {
+        Map<String, String> requiredNodeAffinity = deploymentModel.getRequiredNodeAffinity();
+        Map<String, String> preferredNodeAffinity = deploymentModel.getPreferredNodeAffinity();
+        if (requiredNodeAffinity.isEmpty() && preferredNodeAffinity.isEmpty()) {
+            return null;
+        }
+        NodeAffinityBuilder nodeAffinityBuilder = new NodeAffinityBuilder();
+        if (!requiredNodeAffinity.isEmpty()) {
+            nodeAffinityBuilder.withNewRequiredDuringSchedulingIgnoredDuringExecution()
+                    .withNodeSelectorTerms(generateNodeSelectorTerm(requiredNodeAffinity))
+                    .endRequiredDuringSchedulingIgnoredDuringExecution();
+        }
+        if (!preferredNodeAffinity.isEmpty()) {
+            nodeAffinityBuilder.addNewPreferredDuringSchedulingIgnoredDuringExecution()
+                    .withWeight(KubernetesConstants.DEPLOYMENT_AFFINITY_WEIGHT)
+                    .withPreference(generateNodeSelectorTerm(preferredNodeAffinity))
+                    .endPreferredDuringSchedulingIgnoredDuringExecution();
+        }
+        return nodeAffinityBuilder.build();
+    }
+
+    private Affinity generateAffinity(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        PodAntiAffinity podAntiAffinity = generatePodAntiAffinity(deploymentModel);
+        PodAffinity podAffinity = generatePodAffinity(deploymentModel);
+        NodeAffinity nodeAffinity = generateNodeAffinity(deploymentModel);
+        if (podAntiAffinity == null && podAffinity == null && nodeAffinity == null) {
+            return null;
+        }
+        return new AffinityBuilder()
+                .withPodAntiAffinity(podAntiAffinity)
+                .withPodAffinity(podAffinity)
+                .withNodeAffinity(nodeAffinity)
+                .build();
+    }
+
     /**
-     * Generate kubernetes deployment definition from annotation.
+     * Generate tolerations from taint style strings such as "dedicated=high-cpu:NoSchedule". A toleration without
+     * a value matches any value of the key and one without an effect matches all effects.
      *
-     * @return Generated kubernetes @{@link Deployment} definition
-     * @throws KubernetesPluginException If an error occurs while generating artifact.
+     * @param deploymentModel Deployment model
+     * @return List of tolerations
+     * @throws KubernetesPluginException If a toleration string is invalid
      */
-    public String generate() throws KubernetesPluginException {
-        List<ContainerPort> containerPorts = null;
-        if (deploymentModel.getPorts() != null) {
-            containerPorts = populatePorts(deploymentModel.getPorts());
+    private List<Toleration> populateTolerations(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        List<Toleration> tolerations = new ArrayList<>();
+        for (String toleration : deploymentModel.getTolerations()) {
+            String keyValue = toleration;
+            String effect = null;
+            if (toleration.contains(":")) {
+                keyValue = toleration.substring(0, toleration.lastIndexOf(':'));
+                effect = toleration.substring(toleration.lastIndexOf(':') + 1);
+            }
+            String[] keyAndValue = keyValue.split("=", 2);
+            if (keyAndValue[0].isEmpty()) {
+                throw new KubernetesPluginException("Invalid toleration: " + toleration + ". Expected format is " +
+                        "key[=value][:effect].");
+            }
+            tolerations.add(new TolerationBuilder()
+                    .withKey(keyAndValue[0])
+                    .withOperator(keyAndValue.length > 1 ? "Equal" : "Exists")
+                    .withValue(keyAndValue.length > 1 ? keyAndValue[1] : null)
+                    .withEffect(effect)
+                    .build());
         }
-        Container container = generateContainer(deploymentModel, containerPorts);
-        Deployment deployment = new DeploymentBuilder()
+        return tolerations;
+    }
+
+    private List<Map<String, Object>> generateTopologySpreadConstraints(DeploymentModel deploymentModel)
+            throws KubernetesPluginException {
+        if (deploymentModel.getMaxSkew() < 1) {
+            throw new KubernetesPluginException("Invalid maxSkew: " + deploymentModel.getMaxSkew() + ". Value " +
+                    "should be at least 1.");
+        }
+        if (!KubernetesConstants.DEPLOYMENT_SPREAD_SCHEDULE_ANYWAY.equals(deploymentModel.getWhenUnsatisfiable()) &&
+                !KubernetesConstants.DEPLOYMENT_SPREAD_DO_NOT_SCHEDULE.equals(deploymentModel.getWhenUnsatisfiable())) {
+            throw new KubernetesPluginException("Invalid whenUnsatisfiable: " + deploymentModel
+                    .getWhenUnsatisfiable() + ". Supported values are " + KubernetesConstants
+                    .DEPLOYMENT_SPREAD_SCHEDULE_ANYWAY + " and " + KubernetesConstants
+                    .DEPLOYMENT_SPREAD_DO_NOT_SCHEDULE + ".");
+        }
+        Map<String, Object> labelSelector = new LinkedHashMap<>();
+        labelSelector.put("matchLabels", generateSelfSelector(deploymentModel).getMatchLabels());
+        Map<String, Object> constraint = new LinkedHashMap<>();
+        constraint.put("maxSkew", deploymentModel.getMaxSkew());
+        constraint.put("topologyKey", deploymentModel.getTopologySpreadKey());
+        constraint.put("whenUnsatisfiable", deploymentModel.getWhenUnsatisfiable());
+        constraint.put("labelSelector", labelSelector);
+        return Collections.singletonList(constraint);
+    }
+
+    private boolean isJob(DeploymentModel deploymentModel) {
+        return KubernetesConstants.DEPLOYMENT_KIND_JOB.equals(deploymentModel.getKind()) ||
+                KubernetesConstants.DEPLOYMENT_KIND_CRON_JOB.equals(deploymentModel.getKind());
+    }
+
+    private String getRestartPolicy(DeploymentModel deploymentModel) {
+        if (!isJob(deploymentModel)) {
+            return null;
+        }
+        if (deploymentModel.getRestartPolicy() == null) {
+            return KubernetesConstants.JOB_RESTART_POLICY_DEFAULT;
+        }
+        return deploymentModel.getRestartPolicy();
+    }
+
+    /**
+     * Generate the job spec. Pods of the job run in parallel until the given number of completions succeed.
+     *
+     * @param podTemplateSpec pod template of the job
+     * @return Job spec
+     * @throws KubernetesPluginException If the job configuration is invalid
+     */
+    private JobSpec generateJobSpec(PodTemplateSpec podTemplateSpec) throws KubernetesPluginException {
+        if (deploymentModel.isIndexedCompletion() && deploymentModel.getCompletions() == null) {
+            throw new KubernetesPluginException("Indexed completion requires completions in job: " +
+                    deploymentModel.getName());
+        }
+        return new JobSpecBuilder()
+                .withParallelism(deploymentModel.getParallelism())
+                .withCompletions(deploymentModel.getCompletions())
+                .withActiveDeadlineSeconds(deploymentModel.getActiveDeadlineSeconds())
+                .withTemplate(podTemplateSpec)
+                .build();
+    }
+
+    private void setJobSpecAdditionalProperties(JobSpec jobSpec) {
+        // fields below are not available in the bundled kubernetes model.
+        if (deploymentModel.getBackoffLimit() != null) {
+            jobSpec.setAdditionalProperty("backoffLimit", deploymentModel.getBackoffLimit());
+        }
+        if (deploymentModel.isIndexedCompletion()) {
+            jobSpec.setAdditionalProperty("completionMode", "Indexed");
+        }
+    }
+
+    private String generateJob(PodTemplateSpec podTemplateSpec) throws KubernetesPluginException,
+            JsonProcessingException {
+        JobSpec jobSpec = generateJobSpec(podTemplateSpec);
+        if (KubernetesConstants.DEPLOYMENT_KIND_JOB.equals(deploymentModel.getKind())) {
+            Job job = new JobBuilder()
+                    .withNewMetadata()
+                    .withName(deploymentModel.getName())
+                    .withNamespace(deploymentModel.getNamespace())
+                    .withLabels(deploymentModel.getLabels())
+                    .endMetadata()
+                    .withSpec(jobSpec)
+                    .build();
+            setJobSpecAdditionalProperties(job.getSpec());
+            setVolumeDevices(job.getSpec().getTemplate().getSpec());
+            return SerializationUtils.dumpWithoutRuntimeStateAsYaml(job);
+        }
+        if (deploymentModel.getSchedule() == null) {
+            throw new KubernetesPluginException("Schedule is required for cron job: " + deploymentModel.getName());
+        }
+        CronJob cronJob = new CronJobBuilder()
+                .withNewMetadata()
+                .withName(deploymentModel.getName())
+                .withNamespace(deploymentModel.getNamespace())
+                .withLabels(deploymentModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withSchedule(deploymentModel.getSchedule())
+                .withConcurrencyPolicy(deploymentModel.getConcurrencyPolicy())
+                .withNewJobTemplate()
+                .withSpec(jobSpec)
+                .endJobTemplate()
+                .endSpec()
+                .build();
+        // the bundled kubernetes model defaults to the alpha api version, which current clusters no longer serve.
+        cronJob.setApiVersion("batch/v1");
+        setJobSpecAdditionalProperties(cronJob.getSpec().getJobTemplate().getSpec());
+        setVolumeDevices(cronJob.getSpec().getJobTemplate().getSpec().getTemplate().getSpec());
+        return SerializationUtils.dumpWithoutRuntimeStateAsYaml(cronJob);
+    }
+
+    private void setTopologySpreadConstraints(PodSpec podSpec) throws KubernetesPluginException {
+        if (deploymentModel.getTopologySpreadKey() != null) {
+            // topologySpreadConstraints is not available in the bundled kubernetes model.
+            podSpec.setAdditionalProperty("topologySpreadConstraints",
+                    generateTopologySpreadConstraints(deploymentModel));
+        }
+    }
+
+    private void setVolumeDevices(PodSpec podSpec) {
+        // raw block volumes are attached as devices instead of being mounted as a file system.
+        List<Map<String, String>> volumeDevices = new ArrayList<>();
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            if (isBlockVolume(volumeClaimModel)) {
+                Map<String, String> volumeDevice = new LinkedHashMap<>();
+                volumeDevice.put("name", volumeClaimModel.getName() + "-volume");
+                volumeDevice.put("devicePath", volumeClaimModel.getMountPath());
+                volumeDevices.add(volumeDevice);
+            }
+        }
+        if (!volumeDevices.isEmpty()) {
+            // volumeDevices is not available in the bundled kubernetes model.
+            podSpec.getContainers().get(0).setAdditionalProperty("volumeDevices", volumeDevices);
+        }
+    }
+
+    private boolean isBlockVolume(PersistentVolumeClaimModel volumeClaimModel) {
+        return KubernetesConstants.VOLUME_MODE_BLOCK.equals(volumeClaimModel.getVolumeMode());
+    }
+
+    private boolean isStatefulSet(DeploymentModel deploymentModel) {
+        return KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET.equals(deploymentModel.getKind());
+    }
+
+    /**
+     * Generate a volume claim template for each volume claim so that every replica gets its own volume.
+     *
+     * @param deploymentModel deployment model
+     * @return List of volume claim templates
+     */
+    private List<PersistentVolumeClaim> populateVolumeClaimTemplates(DeploymentModel deploymentModel) throws
+            KubernetesPluginException {
+        List<PersistentVolumeClaim> volumeClaimTemplates = new ArrayList<>();
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            volumeClaimTemplates.add(new PersistentVolumeClaimHandler(volumeClaimModel)
+                    .generateVolumeClaim(volumeClaimModel.getName() + "-volume"));
+        }
+        return volumeClaimTemplates;
+    }
+
+    private void setVolumeClaimTemplateAdditionalProperties(StatefulSet statefulSet) {
+        Map<String, PersistentVolumeClaimModel> volumeClaimModels = new HashMap<>();
+        for (PersistentVolumeClaimModel volumeClaimModel : deploymentModel.getVolumeClaimModels()) {
+            volumeClaimModels.put(volumeClaimModel.getName() + "-volume", volumeClaimModel);
+        }
+        for (PersistentVolumeClaim volumeClaimTemplate : statefulSet.getSpec().getVolumeClaimTemplates()) {
+            PersistentVolumeClaimModel volumeClaimModel =
+                    volumeClaimModels.get(volumeClaimTemplate.getMetadata().getName());
+            new PersistentVolumeClaimHandler(volumeClaimModel)
+                    .setSpecAdditionalProperties(volumeClaimTemplate.getSpec());
+        }
+    }
+
+    private StatefulSet generateStatefulSet(PodTemplateSpec podTemplateSpec) throws KubernetesPluginException {
+        // stateful sets roll pods one by one in reverse ordinal order, so the deployment update settings do not apply.
+        if (deploymentModel.getStrategy() != null || deploymentModel.getMaxSurge() != null ||
+                deploymentModel.getMaxUnavailable() != null || deploymentModel.isPreserveCapacity() ||
+                deploymentModel.getMinReadySeconds() != null || deploymentModel.getProgressDeadlineSeconds() != null) {
+            throw new KubernetesPluginException("strategy, maxSurge, maxUnavailable, preserveCapacity, " +
+                    "minReadySeconds and progressDeadlineSeconds cannot be used with stateful set: " +
+                    deploymentModel.getName());
+        }
+        StatefulSet statefulSet = new StatefulSetBuilder()
                 .withNewMetadata()
                 .withName(deploymentModel.getName())
                 .withNamespace(deploymentModel.getNamespace())
@@ -192,19 +800,143 @@ public class DeploymentHandler implements ArtifactHandler {
                 .endMetadata()
                 .withNewSpec()
                 .withReplicas(deploymentModel.getReplicas())
-                .withNewTemplate()
+                .withServiceName(deploymentModel.getServiceName())
+                .withSelector(generateSelfSelector(deploymentModel))
+                .withRevisionHistoryLimit(deploymentModel.getRevisionHistoryLimit())
+                .withTemplate(podTemplateSpec)
+                .withVolumeClaimTemplates(populateVolumeClaimTemplates(deploymentModel))
+                .endSpec()
+                .build();
+        // the bundled kubernetes model defaults to the beta api version, which current clusters no longer serve.
+        statefulSet.setApiVersion("apps/v1");
+        return statefulSet;
+    }
+
+    private DeploymentStrategy generateStrategy(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        String strategy = deploymentModel.getStrategy();
+        boolean rollingUpdate = deploymentModel.isPreserveCapacity() || deploymentModel.getMaxSurge() != null ||
+                deploymentModel.getMaxUnavailable() != null;
+        if (KubernetesConstants.DEPLOYMENT_STRATEGY_RECREATE.equals(strategy)) {
+            if (rollingUpdate) {
+                throw new KubernetesPluginException("maxSurge, maxUnavailable and preserveCapacity cannot be used " +
+                        "with the Recreate strategy in deployment: " + deploymentModel.getName());
+            }
+            return new DeploymentStrategyBuilder()
+                    .withType(KubernetesConstants.DEPLOYMENT_STRATEGY_RECREATE)
+                    .build();
+        }
+        if (strategy == null && !rollingUpdate) {
+            return null;
+        }
+        IntOrString maxSurge = getIntOrString(deploymentModel.getMaxSurge());
+        IntOrString maxUnavailable = getIntOrString(deploymentModel.getMaxUnavailable());
+        if (deploymentModel.isPreserveCapacity()) {
+            // never take a serving pod down before its replacement is ready.
+            if (maxUnavailable != null && !isZero(maxUnavailable)) {
+                throw new KubernetesPluginException("maxUnavailable must be 0 when preserveCapacity is enabled in " +
+                        "deployment: " + deploymentModel.getName());
+            }
+            maxUnavailable = new IntOrString(0);
+            if (maxSurge != null && isZero(maxSurge)) {
+                throw new KubernetesPluginException("maxSurge must be greater than 0 when preserveCapacity is " +
+                        "enabled in deployment: " + deploymentModel.getName());
+            }
+        }
+        RollingUpdateDeployment rollingUpdateDeployment = new RollingUpdateDeploymentBuilder()
+                .withMaxSurge(maxSurge)
+                .withMaxUnavailable(maxUnavailable)
+                .build();
+        return new DeploymentStrategyBuilder()
+                .withType(KubernetesConstants.DEPLOYMENT_STRATEGY_ROLLING_UPDATE)
+                .withRollingUpdate(rollingUpdateDeployment)
+                .build();
+    }
+
+    private IntOrString getIntOrString(String value) throws KubernetesPluginException {
+        if (value == null) {
+            return null;
+        }
+        if (value.endsWith("%")) {
+            return new IntOrString(value);
+        }
+        try {
+            return new IntOrString(Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            throw new KubernetesPluginException("Invalid rolling update value: " + value + ". Value should be a " +
+                    "number or a percentage.", e);
+        }
+    }
+
+    private boolean isZero(IntOrString value) {
+        if (value.getIntVal() != null) {
+            return value.getIntVal() == 0;
+        }
+        return "0%".equals(value.getStrVal());
+    }
+
+    /**
+     * Generate kubernetes deployment definition from annotation.
+     *
+     * @return Generated kubernetes @{@link Deployment} definition
+     * @throws KubernetesPluginException If an error occurs while generating artifact.
+     */
+    public String generate() throws KubernetesPluginException {
+        if (!KubernetesConstants.DEPLOYMENT_KIND_DEPLOYMENT.equals(deploymentModel.getKind()) &&
+                !isStatefulSet(deploymentModel) && !isJob(deploymentModel)) {
+            throw new KubernetesPluginException("Invalid deployment kind: " + deploymentModel.getKind() + ". " +
+                    "Supported values are " + KubernetesConstants.DEPLOYMENT_KIND_DEPLOYMENT + ", " +
+                    KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET + ", " + KubernetesConstants.DEPLOYMENT_KIND_JOB +
+                    " and " + KubernetesConstants.DEPLOYMENT_KIND_CRON_JOB + ".");
+        }
+        List<ContainerPort> containerPorts = null;
+        if (deploymentModel.getPorts() != null && !isJob(deploymentModel)) {
+            containerPorts = populatePorts(deploymentModel.getPorts(), deploymentModel.getPortNames());
+        }
+        Container container = generateContainer(deploymentModel, containerPorts);
+        PodTemplateSpec podTemplateSpec = new PodTemplateSpecBuilder()
                 .withNewMetadata()
                 .addToLabels(deploymentModel.getLabels())
                 .endMetadata()
                 .withNewSpec()
                 .withContainers(container)
                 .withVolumes(populateVolume(deploymentModel))
-                .endSpec()
-                .endTemplate()
+                .withTerminationGracePeriodSeconds(getTerminationGracePeriodSeconds(deploymentModel))
+                .withAffinity(generateAffinity(deploymentModel))
+                .withNodeSelector(deploymentModel.getNodeSelector())
+                .withTolerations(populateTolerations(deploymentModel))
+                .withRestartPolicy(getRestartPolicy(deploymentModel))
                 .endSpec()
                 .build();
-
         try {
+            if (isJob(deploymentModel)) {
+                return generateJob(podTemplateSpec);
+            }
+            if (isStatefulSet(deploymentModel)) {
+                StatefulSet statefulSet = generateStatefulSet(podTemplateSpec);
+                setVolumeClaimTemplateAdditionalProperties(statefulSet);
+                setTopologySpreadConstraints(statefulSet.getSpec().getTemplate().getSpec());
+                setVolumeDevices(statefulSet.getSpec().getTemplate().getSpec());
+                setStartupProbe(statefulSet.getSpec().getTemplate().getSpec());
+                return SerializationUtils.dumpWithoutRuntimeStateAsYaml(statefulSet);
+            }
+            Deployment deployment = new DeploymentBuilder()
+                    .withNewMetadata()
+                    .withName(deploymentModel.getName())
+                    .withNamespace(deploymentModel.getNamespace())
+                    .withLabels(deploymentModel.getLabels())
+                    .endMetadata()
+                    .withNewSpec()
+                    .withReplicas(deploymentModel.getReplicas())
+                    .withStrategy(generateStrategy(deploymentModel))
+                    .withMinReadySeconds(deploymentModel.getMinReadySeconds())
+                    .withProgressDeadlineSeconds(deploymentModel.getProgressDeadlineSeconds())
+                    .withRevisionHistoryLimit(deploymentModel.getRevisionHistoryLimit())
+                    .withTemplate(podTemplateSpec)
+                    .endSpec()
+                    .build();
+            setTopologySpreadConstraints(deployment.getSpec().getTemplate().getSpec());
+            setVolumeDevices(deployment.getSpec().getTemplate().getSpec());
+            setStartupProbe(deployment.getSpec().getTemplate().getSpec());
             return SerializationUtils.dumpWithoutRuntimeStateAsYaml(deployment);
         } catch (JsonProcessingException e) {
             String errorMessage = "Error while parsing yaml file for deployment: " + deploymentModel.getName();
@@ -21,15 +21,25 @@ package org.ballerinax.kubernetes.handlers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
 import io.fabric8.kubernetes.api.model.HorizontalPodAutoscalerBuilder;
+import io.fabric8.kubernetes.api.model.HorizontalPodAutoscalerSpec;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.PodAutoscalerModel;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Generates kubernetes Horizontal Pod Autoscaler from annotations.
  */
 public class HPAHandler implements ArtifactHandler {
 
+    private static final String AUTOSCALING_V2 = "autoscaling/v2";
+    private static final String APPS_V1 = "apps/v1";
 
     private PodAutoscalerModel podAutoscalerModel;
 
@@ -37,6 +47,13 @@ public class HPAHandler implements ArtifactHandler {
         this.podAutoscalerModel = podAutoscalerModel;
     }
 
+    private String getScaleTargetApiVersion() {
+        if (KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET.equals(podAutoscalerModel.getDeploymentKind())) {
+            return APPS_V1;
+        }
+        return "extensions/v1beta1";
+    }
+
     @Override
     /**
      * Generate kubernetes Horizontal pod autoscaler definition from annotation.
@@ -54,9 +71,20 @@ public class HPAHandler implements ArtifactHandler {
                 .withMaxReplicas(podAutoscalerModel.getMaxReplicas())
                 .withMinReplicas(podAutoscalerModel.getMinReplicas())
                 .withTargetCPUUtilizationPercentage(podAutoscalerModel.getCpuPercentage())
-                .withNewScaleTargetRef("extensions/v1beta1", "Deployment", podAutoscalerModel.getDeployment())
+                .withNewScaleTargetRef(getScaleTargetApiVersion(), podAutoscalerModel.getDeploymentKind(),
+                        podAutoscalerModel.getDeployment())
                 .endSpec()
                 .build();
+        if (podAutoscalerModel.isBehaviorEnabled()) {
+            // Scaling behavior is only available in autoscaling/v2, where the cpu target moves to metrics.
+            horizontalPodAutoscaler.setApiVersion(AUTOSCALING_V2);
+            HorizontalPodAutoscalerSpec spec = horizontalPodAutoscaler.getSpec();
+            spec.setTargetCPUUtilizationPercentage(null);
+            // clusters serving autoscaling/v2 no longer serve the beta workload api groups.
+            spec.getScaleTargetRef().setApiVersion(APPS_V1);
+            spec.setAdditionalProperty("metrics", Collections.singletonList(generateCpuMetric()));
+            spec.setAdditionalProperty("behavior", generateBehavior());
+        }
         try {
             return SerializationUtils.dumpWithoutRuntimeStateAsYaml(horizontalPodAutoscaler);
         } catch (JsonProcessingException e) {
@@ -64,4 +92,65 @@ public class HPAHandler implements ArtifactHandler {
             throw new KubernetesPluginException(errorMessage, e);
         }
     }
+
+    private Map<String, Object> generateCpuMetric() {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("type", "Utilization");
+        target.put("averageUtilization", podAutoscalerModel.getCpuPercentage());
+        Map<String, Object> resource = new LinkedHashMap<>();
+        resource.put("name", "cpu");
+        resource.put("target", target);
+        Map<String, Object> metric = new LinkedHashMap<>();
+        metric.put("type", "Resource");
+        metric.put("resource", resource);
+        return metric;
+    }
+
+    private Map<String, Object> generateBehavior() {
+        Map<String, Object> behavior = new LinkedHashMap<>();
+        Map<String, Object> scaleUp = generateScalingRules(podAutoscalerModel.getScaleUpStabilizationWindowSeconds(),
+                podAutoscalerModel.getScaleUpPercent(), podAutoscalerModel.getScaleUpPods(),
+                podAutoscalerModel.getScaleUpPeriodSeconds(), podAutoscalerModel.getScaleUpSelectPolicy());
+        if (!scaleUp.isEmpty()) {
+            behavior.put("scaleUp", scaleUp);
+        }
+        Map<String, Object> scaleDown = generateScalingRules(
+                podAutoscalerModel.getScaleDownStabilizationWindowSeconds(), podAutoscalerModel.getScaleDownPercent(),
+                podAutoscalerModel.getScaleDownPods(), podAutoscalerModel.getScaleDownPeriodSeconds(),
+                podAutoscalerModel.getScaleDownSelectPolicy());
+        if (!scaleDown.isEmpty()) {
+            behavior.put("scaleDown", scaleDown);
+        }
+        return behavior;
+    }
+
+    private Map<String, Object> generateScalingRules(Integer stabilizationWindowSeconds, Integer percent,
+                                                     Integer pods, int periodSeconds, String selectPolicy) {
+        Map<String, Object> rules = new LinkedHashMap<>();
+        if (stabilizationWindowSeconds != null) {
+            rules.put("stabilizationWindowSeconds", stabilizationWindowSeconds);
+        }
+        if (selectPolicy != null) {
+            rules.put("selectPolicy", selectPolicy);
+        }
+        List<Map<String, Object>> policies = new ArrayList<>();
+        if (percent != null) {
+            policies.add(generateScalingPolicy("Percent", percent, periodSeconds));
+        }
+        if (pods != null) {
+            policies.add(generateScalingPolicy("Pods", pods, periodSeconds));
+        }
+        if (!policies.isEmpty()) {
+            rules.put("policies", policies);
+        }
+        return rules;
+    }
+
+    private Map<String, Object> generateScalingPolicy(String type, int value, int periodSeconds) {
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("type", type);
+        policy.put("value", value);
+        policy.put("periodSeconds", periodSeconds);
+        return policy;
+    }
 }
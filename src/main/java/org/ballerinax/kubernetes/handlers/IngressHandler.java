@@ -28,10 +28,13 @@ import io.fabric8.kubernetes.api.model.extensions.IngressBuilder;
 import io.fabric8.kubernetes.api.model.extensions.IngressTLS;
 import io.fabric8.kubernetes.api.model.extensions.IngressTLSBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.IngressModel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -39,12 +42,302 @@ import java.util.Map;
  * Generates kubernetes ingress from annotations.
  */
 public class IngressHandler implements ArtifactHandler {
+    private static final String NGINX_ANNOTATION_PREFIX = "nginx.ingress.kubernetes.io/";
+    private static final String PRESET_HIGH_THROUGHPUT = "high-throughput";
+    private static final String PRESET_LOW_LATENCY = "low-latency";
     private IngressModel ingressModel;
 
     public IngressHandler(IngressModel ingressModel) {
         this.ingressModel = ingressModel;
     }
 
+    /**
+     * Generate the ingress path routing to the service of an ingress model.
+     *
+     * @param pathIngressModel ingress model of the path
+     * @return Ingress path
+     */
+    private HTTPIngressPath generatePath(IngressModel pathIngressModel) {
+        IngressBackend ingressBackend = new IngressBackendBuilder()
+                .withServiceName(pathIngressModel.getServiceName())
+                .withNewServicePort(pathIngressModel.getServicePort())
+                .build();
+        return new HTTPIngressPathBuilder()
+                .withBackend(ingressBackend)
+                .withPath(pathIngressModel.getPath())
+                .build();
+    }
+
+    /**
+     * Generate the annotations of the ingress. These apply to every path of the ingress.
+     *
+     * @return Map of ingress annotations
+     * @throws KubernetesPluginException If the ingress settings are invalid
+     */
+    public Map<String, String> generateAnnotations() throws KubernetesPluginException {
+        Map<String, String> annotationMap = new HashMap<>();
+        annotationMap.put("kubernetes.io/ingress.class", ingressModel.getIngressClass());
+        annotationMap.putAll(generateTLSAnnotations());
+        String backendProtocol = getBackendProtocol();
+        if (backendProtocol != null) {
+            annotationMap.put(NGINX_ANNOTATION_PREFIX + "backend-protocol", backendProtocol);
+        }
+        if (ingressModel.getTargetPath() != null) {
+            annotationMap.put("nginx.ingress.kubernetes.io/rewrite-target", ingressModel.getTargetPath());
+        }
+        annotationMap.putAll(generateTuningAnnotations());
+        annotationMap.putAll(generateCacheAnnotations());
+        annotationMap.putAll(generateRateLimitAnnotations());
+        return annotationMap;
+    }
+
+    /**
+     * Get the protocol spoken to the backend service. Re-encrypting ingresses default to HTTPS.
+     *
+     * @return Backend protocol or null for the controller default of HTTP
+     * @throws KubernetesPluginException If the protocol is unknown or not encrypted for a re-encrypting ingress
+     */
+    private String getBackendProtocol() throws KubernetesPluginException {
+        String backendProtocol = ingressModel.getEffectiveBackendProtocol();
+        if (backendProtocol != null && !KubernetesConstants.INGRESS_BACKEND_HTTP.equals(backendProtocol) &&
+                !KubernetesConstants.INGRESS_BACKEND_HTTPS.equals(backendProtocol) &&
+                !KubernetesConstants.INGRESS_BACKEND_GRPC.equals(backendProtocol) &&
+                !KubernetesConstants.INGRESS_BACKEND_GRPCS.equals(backendProtocol)) {
+            throw new KubernetesPluginException("Invalid backend protocol: " + backendProtocol + " in ingress: " +
+                    ingressModel.getName() + ". Supported values are HTTP, HTTPS, GRPC and GRPCS.");
+        }
+        if (!ingressModel.isEnableTLS() || !KubernetesConstants.INGRESS_TLS_REENCRYPT.equals(ingressModel
+                .getTlsMode())) {
+            return backendProtocol;
+        }
+        if (!KubernetesConstants.INGRESS_BACKEND_HTTPS.equals(backendProtocol) &&
+                !KubernetesConstants.INGRESS_BACKEND_GRPCS.equals(backendProtocol)) {
+            throw new KubernetesPluginException("Backend protocol of re-encrypting ingress: " + ingressModel.getName()
+                    + " should be HTTPS or GRPCS.");
+        }
+        return backendProtocol;
+    }
+
+    /**
+     * Check whether TLS is terminated at the ingress.
+     *
+     * @return true if the TLS mode is edge or reencrypt
+     */
+    private boolean isTerminatingTLS() {
+        return KubernetesConstants.INGRESS_TLS_EDGE.equals(ingressModel.getTlsMode()) ||
+                KubernetesConstants.INGRESS_TLS_REENCRYPT.equals(ingressModel.getTlsMode());
+    }
+
+    /**
+     * Generate TLS annotations for the TLS mode of the ingress.
+     *
+     * @return Map of TLS annotations
+     * @throws KubernetesPluginException If the TLS mode is unknown or the TLS settings do not apply to it
+     */
+    private Map<String, String> generateTLSAnnotations() throws KubernetesPluginException {
+        Map<String, String> annotationMap = new HashMap<>();
+        String tlsMode = ingressModel.getTlsMode();
+        if (!KubernetesConstants.INGRESS_TLS_PASSTHROUGH.equals(tlsMode) && !isTerminatingTLS()) {
+            throw new KubernetesPluginException("Invalid ingress TLS mode: " + tlsMode + ". Supported values are " +
+                    KubernetesConstants.INGRESS_TLS_PASSTHROUGH + ", " + KubernetesConstants.INGRESS_TLS_EDGE +
+                    " and " + KubernetesConstants.INGRESS_TLS_REENCRYPT + ".");
+        }
+        boolean hasSessionSettings = ingressModel.getSslSessionTimeout() != null ||
+                ingressModel.getSslSessionTickets() != null || ingressModel.getHttp2MaxConcurrentStreams() != null;
+        if (!ingressModel.isEnableTLS()) {
+            return annotationMap;
+        }
+        if (!isTerminatingTLS()) {
+            if (hasSessionSettings) {
+                throw new KubernetesPluginException("TLS session and HTTP/2 settings of ingress " +
+                        ingressModel.getName() + " require tlsMode " + KubernetesConstants.INGRESS_TLS_EDGE + " or " +
+                        KubernetesConstants.INGRESS_TLS_REENCRYPT + ".");
+            }
+            annotationMap.put(NGINX_ANNOTATION_PREFIX + "ssl-passthrough", "true");
+            return annotationMap;
+        }
+        StringBuilder serverSnippet = new StringBuilder();
+        if (ingressModel.getSslSessionTimeout() != null) {
+            serverSnippet.append("ssl_session_timeout ").append(ingressModel.getSslSessionTimeout()).append(";\n");
+        }
+        if (ingressModel.getSslSessionTickets() != null) {
+            serverSnippet.append("ssl_session_tickets ").append(ingressModel.getSslSessionTickets() ? "on" : "off")
+                    .append(";\n");
+        }
+        if (ingressModel.getHttp2MaxConcurrentStreams() != null) {
+            serverSnippet.append("http2_max_concurrent_streams ").append(ingressModel.getHttp2MaxConcurrentStreams())
+                    .append(";\n");
+        }
+        if (serverSnippet.length() > 0) {
+            annotationMap.put(NGINX_ANNOTATION_PREFIX + "server-snippet", serverSnippet.toString());
+        }
+        return annotationMap;
+    }
+
+    /**
+     * Generate nginx response caching annotations. Only GET and HEAD responses are cached. The cache zone is
+     * declared with proxy_cache_path in the http-snippet of the ingress controller.
+     *
+     * @return Map of caching annotations
+     * @throws KubernetesPluginException If the cache zone is missing
+     */
+    private Map<String, String> generateCacheAnnotations() throws KubernetesPluginException {
+        Map<String, String> annotationMap = new HashMap<>();
+        if (!ingressModel.isEnableCache()) {
+            return annotationMap;
+        }
+        if (ingressModel.getCacheZone() == null || ingressModel.getCacheZone().isEmpty()) {
+            throw new KubernetesPluginException("Cache zone is required to enable caching in ingress: " +
+                    ingressModel.getName());
+        }
+        StringBuilder snippet = new StringBuilder();
+        snippet.append("proxy_cache ").append(ingressModel.getCacheZone()).append(";\n");
+        snippet.append("proxy_cache_methods GET HEAD;\n");
+        snippet.append("proxy_cache_key \"").append(ingressModel.getCacheKey()).append("\";\n");
+        snippet.append("proxy_cache_valid 200 301 302 ").append(ingressModel.getCacheTTL()).append(";\n");
+        // collapse concurrent misses into one upstream request and serve stale entries while refreshing.
+        snippet.append("proxy_cache_lock on;\n");
+        snippet.append("proxy_cache_use_stale error timeout updating;\n");
+        if (!ingressModel.getCachePaths().isEmpty()) {
+            List<String> cachePathPatterns = new ArrayList<>();
+            for (String cachePath : ingressModel.getCachePaths()) {
+                cachePathPatterns.add(getCachePathPattern(cachePath));
+            }
+            snippet.append("set $no_cache 1;\n");
+            snippet.append("if ($uri ~ \"^(").append(String.join("|", cachePathPatterns))
+                    .append(")\") {\n  set $no_cache 0;\n}\n");
+            snippet.append("proxy_cache_bypass $no_cache;\n");
+            snippet.append("proxy_no_cache $no_cache;\n");
+        }
+        snippet.append("add_header X-Cache-Status $upstream_cache_status;\n");
+        annotationMap.put(NGINX_ANNOTATION_PREFIX + "configuration-snippet", snippet.toString());
+        return annotationMap;
+    }
+
+    /**
+     * Escape a cache path so that it is matched as a literal prefix by the nginx regular expression.
+     *
+     * @param cachePath Path prefix to cache
+     * @return Escaped path prefix
+     * @throws KubernetesPluginException If the path contains a double quote
+     */
+    private String getCachePathPattern(String cachePath) throws KubernetesPluginException {
+        if (cachePath.contains("\"")) {
+            throw new KubernetesPluginException("Invalid cache path: " + cachePath + " in ingress: " +
+                    ingressModel.getName() + ". Cache paths cannot contain double quotes.");
+        }
+        StringBuilder pattern = new StringBuilder();
+        for (char character : cachePath.toCharArray()) {
+            if ("\\.^$|?*+()[]{}".indexOf(character) >= 0) {
+                pattern.append('\\');
+            }
+            pattern.append(character);
+        }
+        return pattern.toString();
+    }
+
+    /**
+     * Generate nginx per client rate limit annotations. Limits are tracked per client IP address.
+     *
+     * @return Map of rate limit annotations
+     * @throws KubernetesPluginException If a limit is not positive or the allow list has no limit to exempt from
+     */
+    private Map<String, String> generateRateLimitAnnotations() throws KubernetesPluginException {
+        Map<String, String> rateLimits = new HashMap<>();
+        putLimit(rateLimits, "limit-rps", ingressModel.getLimitRps());
+        putLimit(rateLimits, "limit-rpm", ingressModel.getLimitRpm());
+        putLimit(rateLimits, "limit-connections", ingressModel.getLimitConnections());
+        if (ingressModel.getLimitBurstMultiplier() != null) {
+            if (ingressModel.getLimitRps() == null && ingressModel.getLimitRpm() == null) {
+                throw new KubernetesPluginException("limitBurstMultiplier requires limitRps or limitRpm in ingress: "
+                        + ingressModel.getName());
+            }
+            putLimit(rateLimits, "limit-burst-multiplier", ingressModel.getLimitBurstMultiplier());
+        }
+        if (!ingressModel.getLimitAllowList().isEmpty()) {
+            if (rateLimits.isEmpty()) {
+                throw new KubernetesPluginException("limitAllowList requires a rate or connection limit in ingress: "
+                        + ingressModel.getName());
+            }
+            rateLimits.put("limit-whitelist", String.join(",", ingressModel.getLimitAllowList()));
+        }
+        Map<String, String> annotationMap = new HashMap<>();
+        rateLimits.forEach((key, value) -> annotationMap.put(NGINX_ANNOTATION_PREFIX + key, value));
+        return annotationMap;
+    }
+
+    private void putLimit(Map<String, String> rateLimits, String key, Integer limit) throws
+            KubernetesPluginException {
+        if (limit == null) {
+            return;
+        }
+        if (limit <= 0) {
+            throw new KubernetesPluginException("Invalid " + key + " value: " + limit + " in ingress: " +
+                    ingressModel.getName() + ". Value should be greater than 0.");
+        }
+        rateLimits.put(key, String.valueOf(limit));
+    }
+
+    /**
+     * Generate nginx upstream tuning annotations. Values of the preset are used unless set explicitly.
+     *
+     * @return Map of tuning annotations
+     * @throws KubernetesPluginException If the tuning preset is unknown
+     */
+    private Map<String, String> generateTuningAnnotations() throws KubernetesPluginException {
+        Map<String, String> tuning = new HashMap<>();
+        String preset = ingressModel.getTuningPreset();
+        if (PRESET_HIGH_THROUGHPUT.equals(preset)) {
+            // buffer whole responses so slow clients do not hold upstream connections.
+            tuning.put("proxy-http-version", "1.1");
+            tuning.put("proxy-buffering", "on");
+            tuning.put("proxy-buffer-size", "16k");
+            tuning.put("proxy-buffers-number", "8");
+            tuning.put("proxy-connect-timeout", "5");
+            tuning.put("proxy-send-timeout", "60");
+            tuning.put("proxy-read-timeout", "60");
+            tuning.put("proxy-body-size", "64m");
+        } else if (PRESET_LOW_LATENCY.equals(preset)) {
+            // stream responses as they are produced and fail fast on unreachable upstreams.
+            tuning.put("proxy-http-version", "1.1");
+            tuning.put("proxy-buffering", "off");
+            tuning.put("proxy-connect-timeout", "2");
+            tuning.put("proxy-send-timeout", "30");
+            tuning.put("proxy-read-timeout", "30");
+        } else if (preset != null) {
+            throw new KubernetesPluginException("Invalid ingress tuning preset: " + preset + ". Supported values " +
+                    "are " + PRESET_HIGH_THROUGHPUT + " and " + PRESET_LOW_LATENCY + ".");
+        }
+        if (ingressModel.getUpstreamKeepalive() != null) {
+            // upstream keepalive connections are only reused over HTTP/1.1.
+            tuning.put("proxy-http-version", ingressModel.getUpstreamKeepalive() ? "1.1" : "1.0");
+        }
+        if (ingressModel.getProxyBuffering() != null) {
+            tuning.put("proxy-buffering", ingressModel.getProxyBuffering() ? "on" : "off");
+        }
+        if (ingressModel.getProxyBufferSize() != null) {
+            tuning.put("proxy-buffer-size", ingressModel.getProxyBufferSize());
+        }
+        if (ingressModel.getProxyBuffersNumber() != null) {
+            tuning.put("proxy-buffers-number", String.valueOf(ingressModel.getProxyBuffersNumber()));
+        }
+        if (ingressModel.getProxyConnectTimeout() != null) {
+            tuning.put("proxy-connect-timeout", String.valueOf(ingressModel.getProxyConnectTimeout()));
+        }
+        if (ingressModel.getProxySendTimeout() != null) {
+            tuning.put("proxy-send-timeout", String.valueOf(ingressModel.getProxySendTimeout()));
+        }
+        if (ingressModel.getProxyReadTimeout() != null) {
+            tuning.put("proxy-read-timeout", String.valueOf(ingressModel.getProxyReadTimeout()));
+        }
+        if (ingressModel.getProxyBodySize() != null) {
+            tuning.put("proxy-body-size", ingressModel.getProxyBodySize());
+        }
+        Map<String, String> annotationMap = new HashMap<>();
+        tuning.forEach((key, value) -> annotationMap.put(NGINX_ANNOTATION_PREFIX + key, value));
+        return annotationMap;
+    }
+
     /**
      * Generate kubernetes ingress definition from annotation.
      *
@@ -52,36 +345,25 @@ public class IngressHandler implements ArtifactHandler {
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
     public String generate() throws KubernetesPluginException {
-        //generate ingress backend
-        IngressBackend ingressBackend = new IngressBackendBuilder()
-                .withServiceName(ingressModel.getServiceName())
-                .withNewServicePort(ingressModel.getServicePort())
-                .build();
-
-        //generate ingress path
-        HTTPIngressPath ingressPath = new HTTPIngressPathBuilder()
-                .withBackend(ingressBackend)
-                .withPath(ingressModel
-                        .getPath()).build();
+        //generate ingress paths
+        List<HTTPIngressPath> ingressPaths = new ArrayList<>();
+        ingressPaths.add(generatePath(ingressModel));
+        for (IngressModel consolidatedIngressModel : ingressModel.getConsolidatedIngressModels()) {
+            ingressPaths.add(generatePath(consolidatedIngressModel));
+        }
 
         //generate TLS
         IngressTLS ingressTLS;
         if (ingressModel.isEnableTLS()) {
             ingressTLS = new IngressTLSBuilder()
                     .withHosts(ingressModel.getHostname())
+                    .withSecretName(isTerminatingTLS() ? ingressModel.getTlsSecretName() : null)
                     .build();
         } else {
             ingressTLS = new IngressTLSBuilder().build();
         }
 
-        //generate annotationMap
-        Map<String, String> annotationMap = new HashMap<>();
-        annotationMap.put("kubernetes.io/ingress.class", ingressModel.getIngressClass());
-        annotationMap.put("nginx.ingress.kubernetes.io/ssl-passthrough", String.valueOf(ingressModel.isEnableTLS()));
-        if (ingressModel.getTargetPath() != null) {
-            annotationMap.put("nginx.ingress.kubernetes.io/rewrite-target", ingressModel.getTargetPath());
-        }
-
+        Map<String, String> annotationMap = generateAnnotations();
         //generate ingress
         Ingress ingress = new IngressBuilder()
                 .withNewMetadata()
@@ -94,7 +376,7 @@ public class IngressHandler implements ArtifactHandler {
                 .addNewRule()
                 .withHost(ingressModel.getHostname())
                 .withNewHttp()
-                .withPaths(ingressPath)
+                .withPaths(ingressPaths)
                 .endHttp()
                 .endRule()
                 .endSpec()
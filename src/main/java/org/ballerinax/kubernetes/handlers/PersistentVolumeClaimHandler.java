@@ -3,13 +3,16 @@ package org.ballerinax.kubernetes.handlers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimSpec;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.QuantityBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -24,28 +27,82 @@ public class PersistentVolumeClaimHandler implements ArtifactHandler {
 
     }
 
-    @Override
-    public String generate() throws KubernetesPluginException {
-
+    /**
+     * Generate a volume claim with the given name from the volume claim model.
+     *
+     * @param claimName name of the volume claim
+     * @return volume claim
+     * @throws KubernetesPluginException if volume mode or data source kind is invalid
+     */
+    PersistentVolumeClaim generateVolumeClaim(String claimName) throws KubernetesPluginException {
+        validateVolumeClaim();
         Quantity quantity = new QuantityBuilder()
                 .withAmount(volumeClaimModel.getVolumeClaimSize())
                 .build();
 
         Map<String, Quantity> requests = new HashMap<>();
         requests.put("storage", quantity);
-        PersistentVolumeClaim secret = new PersistentVolumeClaimBuilder()
+        PersistentVolumeClaim volumeClaim = new PersistentVolumeClaimBuilder()
                 .withNewMetadata()
-                .withName(volumeClaimModel.getName())
+                .withName(claimName)
                 .endMetadata()
                 .withNewSpec()
                 .withAccessModes(volumeClaimModel.getAccessMode())
+                .withStorageClassName(volumeClaimModel.getStorageClassName())
                 .withNewResources()
                 .withRequests(requests)
                 .endResources()
                 .endSpec()
                 .build();
+        setSpecAdditionalProperties(volumeClaim.getSpec());
+        return volumeClaim;
+    }
+
+    /**
+     * Set the volume claim fields which are not available in the bundled kubernetes model.
+     * Builders drop these when copying the spec, hence they should be set on the final object.
+     *
+     * @param volumeClaimSpec volume claim spec
+     */
+    void setSpecAdditionalProperties(PersistentVolumeClaimSpec volumeClaimSpec) {
+        if (KubernetesConstants.VOLUME_MODE_BLOCK.equals(volumeClaimModel.getVolumeMode())) {
+            volumeClaimSpec.setAdditionalProperty("volumeMode", KubernetesConstants.VOLUME_MODE_BLOCK);
+        }
+        if (volumeClaimModel.getDataSource() != null) {
+            Map<String, String> dataSource = new LinkedHashMap<>();
+            if (KubernetesConstants.DATA_SOURCE_KIND_SNAPSHOT.equals(volumeClaimModel.getDataSourceKind())) {
+                dataSource.put("apiGroup", KubernetesConstants.DATA_SOURCE_SNAPSHOT_API_GROUP);
+            }
+            dataSource.put("kind", volumeClaimModel.getDataSourceKind());
+            dataSource.put("name", volumeClaimModel.getDataSource());
+            volumeClaimSpec.setAdditionalProperty("dataSource", dataSource);
+        }
+    }
+
+    private void validateVolumeClaim() throws KubernetesPluginException {
+        String volumeMode = volumeClaimModel.getVolumeMode();
+        if (!KubernetesConstants.VOLUME_MODE_FILESYSTEM.equals(volumeMode) &&
+                !KubernetesConstants.VOLUME_MODE_BLOCK.equals(volumeMode)) {
+            throw new KubernetesPluginException("Invalid volume mode: " + volumeMode + " in volume claim: " +
+                    volumeClaimModel.getName() + ". Supported values are " +
+                    KubernetesConstants.VOLUME_MODE_FILESYSTEM + " and " + KubernetesConstants.VOLUME_MODE_BLOCK + ".");
+        }
+        String dataSourceKind = volumeClaimModel.getDataSourceKind();
+        if (volumeClaimModel.getDataSource() != null &&
+                !KubernetesConstants.DATA_SOURCE_KIND_CLAIM.equals(dataSourceKind) &&
+                !KubernetesConstants.DATA_SOURCE_KIND_SNAPSHOT.equals(dataSourceKind)) {
+            throw new KubernetesPluginException("Invalid data source kind: " + dataSourceKind + " in volume claim: " +
+                    volumeClaimModel.getName() + ". Supported values are " +
+                    KubernetesConstants.DATA_SOURCE_KIND_CLAIM + " and " +
+                    KubernetesConstants.DATA_SOURCE_KIND_SNAPSHOT + ".");
+        }
+    }
+
+    @Override
+    public String generate() throws KubernetesPluginException {
+        PersistentVolumeClaim volumeClaim = generateVolumeClaim(volumeClaimModel.getName());
         try {
-            return SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
+            return SerializationUtils.dumpWithoutRuntimeStateAsYaml(volumeClaim);
         } catch (JsonProcessingException e) {
             String errorMessage = "Error while parsing yaml file for volume claim: " + volumeClaimModel.getName();
             throw new KubernetesPluginException(errorMessage, e);
@@ -25,8 +25,13 @@ public class SecretHandler implements ArtifactHandler {
                 .withNewMetadata()
                 .withName(secretModel.getName())
                 .endMetadata()
+                .withType(secretModel.getType())
                 .withData(secretModel.getData())
                 .build();
+        if (secretModel.isImmutable()) {
+            // immutable is not available in the bundled kubernetes model.
+            secret.setAdditionalProperty("immutable", true);
+        }
         try {
             return SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
         } catch (JsonProcessingException e) {
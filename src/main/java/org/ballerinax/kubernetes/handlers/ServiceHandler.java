@@ -20,12 +20,19 @@ package org.ballerinax.kubernetes.handlers;
 
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.models.ServiceModel;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -39,6 +46,69 @@ public class ServiceHandler implements ArtifactHandler {
         this.serviceModel = serviceModel;
     }
 
+    private ServicePort generatePort(String name, int port) {
+        return new ServicePortBuilder()
+                .withName(name)
+                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                .withPort(port)
+                .withNewTargetPort(port)
+                .build();
+    }
+
+    private List<ServicePort> populatePorts() {
+        List<ServicePort> servicePorts = new ArrayList<>();
+        if (serviceModel.getNamedPorts().isEmpty()) {
+            servicePorts.add(generatePort(serviceModel.getPortName(), serviceModel.getPort()));
+            return servicePorts;
+        }
+        serviceModel.getNamedPorts().forEach((name, port) -> servicePorts.add(generatePort(name, port)));
+        return servicePorts;
+    }
+
+    private Map<String, String> generateAnnotations() {
+        Map<String, String> annotationMap = new HashMap<>();
+        if (serviceModel.isTopologyAwareRouting()) {
+            annotationMap.put("service.kubernetes.io/topology-mode", "Auto");
+        }
+        return annotationMap;
+    }
+
+    private void validateTrafficPolicy() throws KubernetesPluginException {
+        validateTrafficPolicy("externalTrafficPolicy", serviceModel.getExternalTrafficPolicy());
+        validateTrafficPolicy("internalTrafficPolicy", serviceModel.getInternalTrafficPolicy());
+        String sessionAffinity = serviceModel.getSessionAffinity();
+        if (sessionAffinity != null && !KubernetesConstants.SERVICE_SESSION_AFFINITY_NONE.equals(sessionAffinity) &&
+                !KubernetesConstants.SERVICE_SESSION_AFFINITY_CLIENT_IP.equals(sessionAffinity)) {
+            throw new KubernetesPluginException("Invalid sessionAffinity: " + sessionAffinity + " in service: " +
+                    serviceModel.getName() + ". Supported values are " + KubernetesConstants
+                    .SERVICE_SESSION_AFFINITY_NONE + " and " + KubernetesConstants.SERVICE_SESSION_AFFINITY_CLIENT_IP +
+                    ".");
+        }
+        if (serviceModel.getExternalTrafficPolicy() != null && !"NodePort".equals(serviceModel.getServiceType()) &&
+                !"LoadBalancer".equals(serviceModel.getServiceType())) {
+            throw new KubernetesPluginException("externalTrafficPolicy can only be used with NodePort or " +
+                    "LoadBalancer services: " + serviceModel.getName());
+        }
+        if (serviceModel.isHeadless() && !"ClusterIP".equals(serviceModel.getServiceType())) {
+            throw new KubernetesPluginException("Headless services should be of ClusterIP type: " +
+                    serviceModel.getName());
+        }
+        if (serviceModel.getSessionAffinityTimeout() > 0 && !KubernetesConstants.SERVICE_SESSION_AFFINITY_CLIENT_IP
+                .equals(serviceModel.getSessionAffinity())) {
+            throw new KubernetesPluginException("sessionAffinityTimeout requires ClientIP session affinity in " +
+                    "service: " + serviceModel.getName());
+        }
+    }
+
+    private void validateTrafficPolicy(String field, String trafficPolicy) throws KubernetesPluginException {
+        if (trafficPolicy != null && !KubernetesConstants.SERVICE_TRAFFIC_POLICY_CLUSTER.equals(trafficPolicy) &&
+                !KubernetesConstants.SERVICE_TRAFFIC_POLICY_LOCAL.equals(trafficPolicy)) {
+            throw new KubernetesPluginException("Invalid " + field + ": " + trafficPolicy + " in service: " +
+                    serviceModel.getName() + ". Supported values are " + KubernetesConstants
+                    .SERVICE_TRAFFIC_POLICY_CLUSTER + " and " + KubernetesConstants.SERVICE_TRAFFIC_POLICY_LOCAL + ".");
+        }
+    }
+
     /**
      * Generate kubernetes service definition from annotation.
      *
@@ -46,21 +116,39 @@ public class ServiceHandler implements ArtifactHandler {
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
     public String generate() throws KubernetesPluginException {
+        validateTrafficPolicy();
         Service service = new ServiceBuilder()
                 .withNewMetadata()
                 .withName(serviceModel.getName())
                 .addToLabels(serviceModel.getLabels())
+                .addToAnnotations(generateAnnotations())
                 .endMetadata()
                 .withNewSpec()
-                .addNewPort()
-                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
-                .withPort(serviceModel.getPort())
-                .withNewTargetPort(serviceModel.getPort())
-                .endPort()
+                .withPorts(populatePorts())
                 .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, serviceModel.getSelector())
                 .withType(serviceModel.getServiceType())
+                .withExternalTrafficPolicy(serviceModel.getExternalTrafficPolicy())
+                .withSessionAffinity(serviceModel.getSessionAffinity())
+                .withClusterIP(serviceModel.isHeadless() ? "None" : null)
                 .endSpec()
                 .build();
+        // fields below are not available in the bundled kubernetes model.
+        for (ServicePort servicePort : service.getSpec().getPorts()) {
+            if (serviceModel.getAppProtocols().containsKey(servicePort.getPort())) {
+                servicePort.setAdditionalProperty("appProtocol", serviceModel.getAppProtocols()
+                        .get(servicePort.getPort()));
+            }
+        }
+        if (serviceModel.getInternalTrafficPolicy() != null) {
+            service.getSpec().setAdditionalProperty("internalTrafficPolicy", serviceModel.getInternalTrafficPolicy());
+        }
+        if (serviceModel.isPublishNotReadyAddresses()) {
+            service.getSpec().setAdditionalProperty("publishNotReadyAddresses", true);
+        }
+        if (serviceModel.getSessionAffinityTimeout() > 0) {
+            service.getSpec().setAdditionalProperty("sessionAffinityConfig", Collections.singletonMap("clientIP",
+                    Collections.singletonMap("timeoutSeconds", serviceModel.getSessionAffinityTimeout())));
+        }
         String serviceYAML;
         try {
             serviceYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
@@ -1,6 +1,7 @@
 package org.ballerinax.kubernetes.models;
 
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Model class to hold kubernetes config map data.
@@ -8,11 +9,15 @@ import java.util.Map;
 public class ConfigMapModel {
     private String name;
     private Map<String, String> data;
+    private Map<String, byte[]> binaryData;
     private String mountPath;
     private boolean readOnly;
+    private boolean immutable;
 
     public ConfigMapModel() {
         this.readOnly = true;
+        this.data = new TreeMap<>();
+        this.binaryData = new TreeMap<>();
     }
 
     public String getName() {
@@ -46,4 +51,20 @@ public class ConfigMapModel {
     public void setReadOnly(boolean readOnly) {
         this.readOnly = readOnly;
     }
+
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    public void setImmutable(boolean immutable) {
+        this.immutable = immutable;
+    }
+
+    public Map<String, byte[]> getBinaryData() {
+        return binaryData;
+    }
+
+    public void setBinaryData(Map<String, byte[]> binaryData) {
+        this.binaryData = binaryData;
+    }
 }
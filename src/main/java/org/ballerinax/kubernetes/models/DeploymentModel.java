@@ -17,7 +17,10 @@
  */
 package org.ballerinax.kubernetes.models;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -26,6 +29,19 @@ import java.util.Set;
  */
 public class DeploymentModel {
     private String name;
+    private String kind;
+    private String serviceName;
+    private String schedule;
+    private String concurrencyPolicy;
+    private Integer parallelism;
+    private Integer completions;
+    private boolean indexedCompletion;
+    private Integer backoffLimit;
+    private Long activeDeadlineSeconds;
+    private String restartPolicy;
+    private boolean projectedVolumes;
+    private boolean immutableConfig;
+    private int maxConfigSize;
     private Map<String, String> labels;
     private int replicas;
     private String enableLiveness;
@@ -44,13 +60,37 @@ public class DeploymentModel {
     private String dockerHost;
     private String dockerCertPath;
     private Set<Integer> ports;
+    private Map<Integer, String> portNames;
     private PodAutoscalerModel podAutoscalerModel;
     private Set<SecretModel> secretModels;
     private Set<ConfigMapModel> configMapModels;
     private Set<PersistentVolumeClaimModel> volumeClaimModels;
+    private Set<ScratchVolumeModel> scratchVolumeModels;
+    private String strategy;
+    private String maxSurge;
+    private String maxUnavailable;
+    private boolean preserveCapacity;
+    private Integer minReadySeconds;
+    private Integer progressDeadlineSeconds;
+    private Integer revisionHistoryLimit;
+    private int drainSeconds;
+    private Integer terminationGracePeriodSeconds;
+    private String podAntiAffinity;
+    private String antiAffinityTopologyKey;
+    private String topologySpreadKey;
+    private int maxSkew;
+    private String whenUnsatisfiable;
+    private List<Map<String, String>> podAffinityLabels;
+    private int podAffinityWeight;
+    private String podAffinityTopologyKey;
+    private Map<String, String> nodeSelector;
+    private Map<String, String> requiredNodeAffinity;
+    private Map<String, String> preferredNodeAffinity;
+    private List<String> tolerations;
 
     public DeploymentModel() {
         // Initialize with default values.
+        this.kind = "Deployment";
         this.replicas = 1;
         this.enableLiveness = "disable";
         this.periodSeconds = 5;
@@ -62,6 +102,126 @@ public class DeploymentModel {
         this.labels = new HashMap<>();
         this.setImagePullPolicy("IfNotPresent");
         this.dockerHost = "unix:///var/run/docker.sock";
+        this.portNames = new HashMap<>();
+        this.secretModels = new HashSet<>();
+        this.configMapModels = new HashSet<>();
+        this.volumeClaimModels = new HashSet<>();
+        this.scratchVolumeModels = new HashSet<>();
+        this.antiAffinityTopologyKey = "kubernetes.io/hostname";
+        this.maxSkew = 1;
+        this.whenUnsatisfiable = "ScheduleAnyway";
+        this.podAffinityLabels = new ArrayList<>();
+        this.podAffinityWeight = 100;
+        this.podAffinityTopologyKey = "kubernetes.io/hostname";
+        this.nodeSelector = new HashMap<>();
+        this.requiredNodeAffinity = new HashMap<>();
+        this.preferredNodeAffinity = new HashMap<>();
+        this.tolerations = new ArrayList<>();
+        this.maxConfigSize = 1000000;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public String getSchedule() {
+        return schedule;
+    }
+
+    public void setSchedule(String schedule) {
+        this.schedule = schedule;
+    }
+
+    public String getConcurrencyPolicy() {
+        return concurrencyPolicy;
+    }
+
+    public void setConcurrencyPolicy(String concurrencyPolicy) {
+        this.concurrencyPolicy = concurrencyPolicy;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(Integer parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Integer getCompletions() {
+        return completions;
+    }
+
+    public void setCompletions(Integer completions) {
+        this.completions = completions;
+    }
+
+    public boolean isIndexedCompletion() {
+        return indexedCompletion;
+    }
+
+    public void setIndexedCompletion(boolean indexedCompletion) {
+        this.indexedCompletion = indexedCompletion;
+    }
+
+    public Integer getBackoffLimit() {
+        return backoffLimit;
+    }
+
+    public void setBackoffLimit(Integer backoffLimit) {
+        this.backoffLimit = backoffLimit;
+    }
+
+    public Long getActiveDeadlineSeconds() {
+        return activeDeadlineSeconds;
+    }
+
+    public void setActiveDeadlineSeconds(Long activeDeadlineSeconds) {
+        this.activeDeadlineSeconds = activeDeadlineSeconds;
+    }
+
+    public String getRestartPolicy() {
+        return restartPolicy;
+    }
+
+    public void setRestartPolicy(String restartPolicy) {
+        this.restartPolicy = restartPolicy;
+    }
+
+    public boolean isProjectedVolumes() {
+        return projectedVolumes;
+    }
+
+    public void setProjectedVolumes(boolean projectedVolumes) {
+        this.projectedVolumes = projectedVolumes;
+    }
+
+    public boolean isImmutableConfig() {
+        return immutableConfig;
+    }
+
+    public void setImmutableConfig(boolean immutableConfig) {
+        this.immutableConfig = immutableConfig;
+    }
+
+    public int getMaxConfigSize() {
+        return maxConfigSize;
+    }
+
+    public void setMaxConfigSize(int maxConfigSize) {
+        this.maxConfigSize = maxConfigSize;
     }
 
     public String getName() {
@@ -144,6 +304,14 @@ public class DeploymentModel {
         this.ports = ports;
     }
 
+    public Map<Integer, String> getPortNames() {
+        return portNames;
+    }
+
+    public void setPortNames(Map<Integer, String> portNames) {
+        this.portNames = portNames;
+    }
+
     public Map<String, String> getEnv() {
         return env;
     }
@@ -233,6 +401,40 @@ public class DeploymentModel {
                 ", push=" + push +
                 ", ports=" + ports +
                 ", podAutoscalerModel=" + podAutoscalerModel +
+                ", strategy='" + strategy + '\'' +
+                ", maxSurge='" + maxSurge + '\'' +
+                ", maxUnavailable='" + maxUnavailable + '\'' +
+                ", preserveCapacity=" + preserveCapacity +
+                ", minReadySeconds=" + minReadySeconds +
+                ", progressDeadlineSeconds=" + progressDeadlineSeconds +
+                ", revisionHistoryLimit=" + revisionHistoryLimit +
+                ", drainSeconds=" + drainSeconds +
+                ", terminationGracePeriodSeconds=" + terminationGracePeriodSeconds +
+                ", podAntiAffinity='" + podAntiAffinity + '\'' +
+                ", antiAffinityTopologyKey='" + antiAffinityTopologyKey + '\'' +
+                ", topologySpreadKey='" + topologySpreadKey + '\'' +
+                ", maxSkew=" + maxSkew +
+                ", whenUnsatisfiable='" + whenUnsatisfiable + '\'' +
+                ", podAffinityLabels=" + podAffinityLabels +
+                ", podAffinityWeight=" + podAffinityWeight +
+                ", podAffinityTopologyKey='" + podAffinityTopologyKey + '\'' +
+                ", nodeSelector=" + nodeSelector +
+                ", requiredNodeAffinity=" + requiredNodeAffinity +
+                ", preferredNodeAffinity=" + preferredNodeAffinity +
+                ", tolerations=" + tolerations +
+                ", kind='" + kind + '\'' +
+                ", serviceName='" + serviceName + '\'' +
+                ", schedule='" + schedule + '\'' +
+                ", concurrencyPolicy='" + concurrencyPolicy + '\'' +
+                ", parallelism=" + parallelism +
+                ", completions=" + completions +
+                ", indexedCompletion=" + indexedCompletion +
+                ", backoffLimit=" + backoffLimit +
+                ", activeDeadlineSeconds=" + activeDeadlineSeconds +
+                ", restartPolicy='" + restartPolicy + '\'' +
+                ", projectedVolumes=" + projectedVolumes +
+                ", immutableConfig=" + immutableConfig +
+                ", maxConfigSize=" + maxConfigSize +
                 '}';
     }
 
@@ -268,6 +470,14 @@ public class DeploymentModel {
         this.volumeClaimModels = volumeClaimModels;
     }
 
+    public Set<ScratchVolumeModel> getScratchVolumeModels() {
+        return scratchVolumeModels;
+    }
+
+    public void setScratchVolumeModels(Set<ScratchVolumeModel> scratchVolumeModels) {
+        this.scratchVolumeModels = scratchVolumeModels;
+    }
+
     public String getDockerCertPath() {
         return dockerCertPath;
     }
@@ -275,4 +485,180 @@ public class DeploymentModel {
     public void setDockerCertPath(String dockerCertPath) {
         this.dockerCertPath = dockerCertPath;
     }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    public String getMaxSurge() {
+        return maxSurge;
+    }
+
+    public void setMaxSurge(String maxSurge) {
+        this.maxSurge = maxSurge;
+    }
+
+    public String getMaxUnavailable() {
+        return maxUnavailable;
+    }
+
+    public void setMaxUnavailable(String maxUnavailable) {
+        this.maxUnavailable = maxUnavailable;
+    }
+
+    public boolean isPreserveCapacity() {
+        return preserveCapacity;
+    }
+
+    public void setPreserveCapacity(boolean preserveCapacity) {
+        this.preserveCapacity = preserveCapacity;
+    }
+
+    public Integer getMinReadySeconds() {
+        return minReadySeconds;
+    }
+
+    public void setMinReadySeconds(Integer minReadySeconds) {
+        this.minReadySeconds = minReadySeconds;
+    }
+
+    public Integer getProgressDeadlineSeconds() {
+        return progressDeadlineSeconds;
+    }
+
+    public void setProgressDeadlineSeconds(Integer progressDeadlineSeconds) {
+        this.progressDeadlineSeconds = progressDeadlineSeconds;
+    }
+
+    public Integer getRevisionHistoryLimit() {
+        return revisionHistoryLimit;
+    }
+
+    public void setRevisionHistoryLimit(Integer revisionHistoryLimit) {
+        this.revisionHistoryLimit = revisionHistoryLimit;
+    }
+
+    public int getDrainSeconds() {
+        return drainSeconds;
+    }
+
+    public void setDrainSeconds(int drainSeconds) {
+        this.drainSeconds = drainSeconds;
+    }
+
+    public Integer getTerminationGracePeriodSeconds() {
+        return terminationGracePeriodSeconds;
+    }
+
+    public void setTerminationGracePeriodSeconds(Integer terminationGracePeriodSeconds) {
+        this.terminationGracePeriodSeconds = terminationGracePeriodSeconds;
+    }
+
+    public String getPodAntiAffinity() {
+        return podAntiAffinity;
+    }
+
+    public void setPodAntiAffinity(String podAntiAffinity) {
+        this.podAntiAffinity = podAntiAffinity;
+    }
+
+    public String getAntiAffinityTopologyKey() {
+        return antiAffinityTopologyKey;
+    }
+
+    public void setAntiAffinityTopologyKey(String antiAffinityTopologyKey) {
+        this.antiAffinityTopologyKey = antiAffinityTopologyKey;
+    }
+
+    public String getTopologySpreadKey() {
+        return topologySpreadKey;
+    }
+
+    public void setTopologySpreadKey(String topologySpreadKey) {
+        this.topologySpreadKey = topologySpreadKey;
+    }
+
+    public int getMaxSkew() {
+        return maxSkew;
+    }
+
+    public void setMaxSkew(int maxSkew) {
+        this.maxSkew = maxSkew;
+    }
+
+    public String getWhenUnsatisfiable() {
+        return whenUnsatisfiable;
+    }
+
+    public void setWhenUnsatisfiable(String whenUnsatisfiable) {
+        this.whenUnsatisfiable = whenUnsatisfiable;
+    }
+
+    public List<Map<String, String>> getPodAffinityLabels() {
+        return podAffinityLabels;
+    }
+
+    public void setPodAffinityLabels(List<Map<String, String>> podAffinityLabels) {
+        this.podAffinityLabels = podAffinityLabels;
+    }
+
+    public void addPodAffinityLabels(Map<String, String> labels) {
+        this.podAffinityLabels.add(labels);
+    }
+
+    public int getPodAffinityWeight() {
+        return podAffinityWeight;
+    }
+
+    public void setPodAffinityWeight(int podAffinityWeight) {
+        this.podAffinityWeight = podAffinityWeight;
+    }
+
+    public String getPodAffinityTopologyKey() {
+        return podAffinityTopologyKey;
+    }
+
+    public void setPodAffinityTopologyKey(String podAffinityTopologyKey) {
+        this.podAffinityTopologyKey = podAffinityTopologyKey;
+    }
+
+    public Map<String, String> getNodeSelector() {
+        return nodeSelector;
+    }
+
+    public void setNodeSelector(Map<String, String> nodeSelector) {
+        this.nodeSelector = nodeSelector;
+    }
+
+    public Map<String, String> getRequiredNodeAffinity() {
+        return requiredNodeAffinity;
+    }
+
+    public void setRequiredNodeAffinity(Map<String, String> requiredNodeAffinity) {
+        this.requiredNodeAffinity = requiredNodeAffinity;
+    }
+
+    public Map<String, String> getPreferredNodeAffinity() {
+        return preferredNodeAffinity;
+    }
+
+    public void setPreferredNodeAffinity(Map<String, String> preferredNodeAffinity) {
+        this.preferredNodeAffinity = preferredNodeAffinity;
+    }
+
+    public List<String> getTolerations() {
+        return tolerations;
+    }
+
+    public void setTolerations(List<String> tolerations) {
+        this.tolerations = tolerations;
+    }
+
+    public void addToleration(String toleration) {
+        this.tolerations.add(toleration);
+    }
 }
@@ -36,12 +36,47 @@ public class IngressModel {
     private String targetPath;
     private boolean enableTLS;
     private List<ServiceModel> serviceModelList;
+    private String backendProtocol;
+    private boolean consolidate;
+    private List<IngressModel> consolidatedIngressModels;
+    private String tlsMode;
+    private String tlsSecretName;
+    private String sslSessionTimeout;
+    private Boolean sslSessionTickets;
+    private Integer http2MaxConcurrentStreams;
+    private boolean enableCache;
+    private String cacheZone;
+    private List<String> cachePaths;
+    private String cacheTTL;
+    private String cacheKey;
+    private Integer limitRps;
+    private Integer limitRpm;
+    private Integer limitBurstMultiplier;
+    private Integer limitConnections;
+    private List<String> limitAllowList;
+    private String tuningPreset;
+    private Boolean upstreamKeepalive;
+    private Boolean proxyBuffering;
+    private String proxyBufferSize;
+    private Integer proxyBuffersNumber;
+    private Integer proxyConnectTimeout;
+    private Integer proxySendTimeout;
+    private Integer proxyReadTimeout;
+    private String proxyBodySize;
 
     public IngressModel() {
         this.path = "/";
         this.enableTLS = false;
         this.ingressClass = "nginx";
+        this.tlsMode = "passthrough";
         this.serviceModelList = new ArrayList<>();
+        this.consolidatedIngressModels = new ArrayList<>();
+        this.enableCache = false;
+        this.cacheZone = "ballerina_cache";
+        this.cachePaths = new ArrayList<>();
+        this.cacheTTL = "1m";
+        this.cacheKey = "$scheme$host$request_uri";
+        this.limitAllowList = new ArrayList<>();
         this.labels = new HashMap<>();
     }
 
@@ -117,6 +152,234 @@ public class IngressModel {
         this.enableTLS = enableTLS;
     }
 
+    public String getBackendProtocol() {
+        return backendProtocol;
+    }
+
+    public void setBackendProtocol(String backendProtocol) {
+        this.backendProtocol = backendProtocol;
+    }
+
+    /**
+     * Get the protocol spoken to the backend service. Re-encrypting ingresses default to HTTPS.
+     *
+     * @return Backend protocol or null for the controller default of HTTP
+     */
+    public String getEffectiveBackendProtocol() {
+        if (backendProtocol == null && enableTLS && "reencrypt".equals(tlsMode)) {
+            return "HTTPS";
+        }
+        return backendProtocol;
+    }
+
+    public boolean isConsolidate() {
+        return consolidate;
+    }
+
+    public void setConsolidate(boolean consolidate) {
+        this.consolidate = consolidate;
+    }
+
+    public List<IngressModel> getConsolidatedIngressModels() {
+        return consolidatedIngressModels;
+    }
+
+    public void addConsolidatedIngressModel(IngressModel ingressModel) {
+        this.consolidatedIngressModels.add(ingressModel);
+    }
+
+    public String getTlsMode() {
+        return tlsMode;
+    }
+
+    public void setTlsMode(String tlsMode) {
+        this.tlsMode = tlsMode;
+    }
+
+    public String getTlsSecretName() {
+        return tlsSecretName;
+    }
+
+    public void setTlsSecretName(String tlsSecretName) {
+        this.tlsSecretName = tlsSecretName;
+    }
+
+    public String getSslSessionTimeout() {
+        return sslSessionTimeout;
+    }
+
+    public void setSslSessionTimeout(String sslSessionTimeout) {
+        this.sslSessionTimeout = sslSessionTimeout;
+    }
+
+    public Boolean getSslSessionTickets() {
+        return sslSessionTickets;
+    }
+
+    public void setSslSessionTickets(Boolean sslSessionTickets) {
+        this.sslSessionTickets = sslSessionTickets;
+    }
+
+    public Integer getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    public void setHttp2MaxConcurrentStreams(Integer http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    public boolean isEnableCache() {
+        return enableCache;
+    }
+
+    public void setEnableCache(boolean enableCache) {
+        this.enableCache = enableCache;
+    }
+
+    public String getCacheZone() {
+        return cacheZone;
+    }
+
+    public void setCacheZone(String cacheZone) {
+        this.cacheZone = cacheZone;
+    }
+
+    public List<String> getCachePaths() {
+        return cachePaths;
+    }
+
+    public void addCachePath(String cachePath) {
+        this.cachePaths.add(cachePath);
+    }
+
+    public String getCacheTTL() {
+        return cacheTTL;
+    }
+
+    public void setCacheTTL(String cacheTTL) {
+        this.cacheTTL = cacheTTL;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public Integer getLimitRps() {
+        return limitRps;
+    }
+
+    public void setLimitRps(Integer limitRps) {
+        this.limitRps = limitRps;
+    }
+
+    public Integer getLimitRpm() {
+        return limitRpm;
+    }
+
+    public void setLimitRpm(Integer limitRpm) {
+        this.limitRpm = limitRpm;
+    }
+
+    public Integer getLimitBurstMultiplier() {
+        return limitBurstMultiplier;
+    }
+
+    public void setLimitBurstMultiplier(Integer limitBurstMultiplier) {
+        this.limitBurstMultiplier = limitBurstMultiplier;
+    }
+
+    public Integer getLimitConnections() {
+        return limitConnections;
+    }
+
+    public void setLimitConnections(Integer limitConnections) {
+        this.limitConnections = limitConnections;
+    }
+
+    public List<String> getLimitAllowList() {
+        return limitAllowList;
+    }
+
+    public void addLimitAllowList(String cidr) {
+        this.limitAllowList.add(cidr);
+    }
+
+    public String getTuningPreset() {
+        return tuningPreset;
+    }
+
+    public void setTuningPreset(String tuningPreset) {
+        this.tuningPreset = tuningPreset;
+    }
+
+    public Boolean getUpstreamKeepalive() {
+        return upstreamKeepalive;
+    }
+
+    public void setUpstreamKeepalive(Boolean upstreamKeepalive) {
+        this.upstreamKeepalive = upstreamKeepalive;
+    }
+
+    public Boolean getProxyBuffering() {
+        return proxyBuffering;
+    }
+
+    public void setProxyBuffering(Boolean proxyBuffering) {
+        this.proxyBuffering = proxyBuffering;
+    }
+
+    public String getProxyBufferSize() {
+        return proxyBufferSize;
+    }
+
+    public void setProxyBufferSize(String proxyBufferSize) {
+        this.proxyBufferSize = proxyBufferSize;
+    }
+
+    public Integer getProxyBuffersNumber() {
+        return proxyBuffersNumber;
+    }
+
+    public void setProxyBuffersNumber(Integer proxyBuffersNumber) {
+        this.proxyBuffersNumber = proxyBuffersNumber;
+    }
+
+    public Integer getProxyConnectTimeout() {
+        return proxyConnectTimeout;
+    }
+
+    public void setProxyConnectTimeout(Integer proxyConnectTimeout) {
+        this.proxyConnectTimeout = proxyConnectTimeout;
+    }
+
+    public Integer getProxySendTimeout() {
+        return proxySendTimeout;
+    }
+
+    public void setProxySendTimeout(Integer proxySendTimeout) {
+        this.proxySendTimeout = proxySendTimeout;
+    }
+
+    public Integer getProxyReadTimeout() {
+        return proxyReadTimeout;
+    }
+
+    public void setProxyReadTimeout(Integer proxyReadTimeout) {
+        this.proxyReadTimeout = proxyReadTimeout;
+    }
+
+    public String getProxyBodySize() {
+        return proxyBodySize;
+    }
+
+    public void setProxyBodySize(String proxyBodySize) {
+        this.proxyBodySize = proxyBodySize;
+    }
+
     @Override
     public String toString() {
         return "IngressModel{" +
@@ -129,6 +392,33 @@ public class IngressModel {
                 ", servicePort=" + servicePort +
                 ", targetPath='" + targetPath + '\'' +
                 ", enableTLS=" + enableTLS +
+                ", backendProtocol='" + backendProtocol + '\'' +
+                ", consolidate=" + consolidate +
+                ", consolidatedIngressModels=" + consolidatedIngressModels +
+                ", tlsMode='" + tlsMode + '\'' +
+                ", tlsSecretName='" + tlsSecretName + '\'' +
+                ", sslSessionTimeout='" + sslSessionTimeout + '\'' +
+                ", sslSessionTickets=" + sslSessionTickets +
+                ", http2MaxConcurrentStreams=" + http2MaxConcurrentStreams +
+                ", enableCache=" + enableCache +
+                ", cacheZone='" + cacheZone + '\'' +
+                ", cachePaths=" + cachePaths +
+                ", cacheTTL='" + cacheTTL + '\'' +
+                ", cacheKey='" + cacheKey + '\'' +
+                ", limitRps=" + limitRps +
+                ", limitRpm=" + limitRpm +
+                ", limitBurstMultiplier=" + limitBurstMultiplier +
+                ", limitConnections=" + limitConnections +
+                ", limitAllowList=" + limitAllowList +
+                ", tuningPreset='" + tuningPreset + '\'' +
+                ", upstreamKeepalive=" + upstreamKeepalive +
+                ", proxyBuffering=" + proxyBuffering +
+                ", proxyBufferSize='" + proxyBufferSize + '\'' +
+                ", proxyBuffersNumber=" + proxyBuffersNumber +
+                ", proxyConnectTimeout=" + proxyConnectTimeout +
+                ", proxySendTimeout=" + proxySendTimeout +
+                ", proxyReadTimeout=" + proxyReadTimeout +
+                ", proxyBodySize='" + proxyBodySize + '\'' +
                 '}';
     }
 
@@ -34,17 +34,21 @@ public class KubernetesDataHolder {
     private Set<Integer> ports;
     private Map<String, Set<SecretModel>> endPointToSecretMap;
     private Set<SecretModel> secrets;
+    private Map<String, SecretModel> endPointToTLSSecretMap;
     private Set<ConfigMapModel> configMaps;
     private Set<PersistentVolumeClaimModel> persistentVolumeClaims;
+    private Set<ScratchVolumeModel> scratchVolumes;
 
     public KubernetesDataHolder() {
         endpointToServiceModelMap = new HashMap<>();
         ingressToEndpointMap = new HashMap();
         ports = new HashSet<>();
         endPointToSecretMap = new HashMap<>();
+        endPointToTLSSecretMap = new HashMap<>();
         secrets = new HashSet<>();
         configMaps = new HashSet<>();
         persistentVolumeClaims = new HashSet<>();
+        scratchVolumes = new HashSet<>();
     }
 
     public DeploymentModel getDeploymentModel() {
@@ -96,6 +100,14 @@ public class KubernetesDataHolder {
         this.endPointToSecretMap.put(endpointName, secretModel);
     }
 
+    public Map<String, SecretModel> getTLSSecretModels() {
+        return endPointToTLSSecretMap;
+    }
+
+    public void addEndpointTLSSecret(String endpointName, SecretModel secretModel) {
+        this.endPointToTLSSecretMap.put(endpointName, secretModel);
+    }
+
     public Set<SecretModel> getSecrets() {
         return secrets;
     }
@@ -104,6 +116,10 @@ public class KubernetesDataHolder {
         this.secrets.addAll(secrets);
     }
 
+    public void setSecrets(Set<SecretModel> secrets) {
+        this.secrets = secrets;
+    }
+
     public Set<ConfigMapModel> getConfigMaps() {
         return configMaps;
     }
@@ -112,6 +128,10 @@ public class KubernetesDataHolder {
         this.configMaps.addAll(configMaps);
     }
 
+    public void setConfigMaps(Set<ConfigMapModel> configMaps) {
+        this.configMaps = configMaps;
+    }
+
     public Set<PersistentVolumeClaimModel> getPersistentVolumeClaims() {
         return persistentVolumeClaims;
     }
@@ -119,4 +139,12 @@ public class KubernetesDataHolder {
     public void addPersistentVolumeClaims(Set<PersistentVolumeClaimModel> persistentVolumeClaims) {
         this.persistentVolumeClaims.addAll(persistentVolumeClaims);
     }
+
+    public Set<ScratchVolumeModel> getScratchVolumes() {
+        return scratchVolumes;
+    }
+
+    public void addScratchVolumes(Set<ScratchVolumeModel> scratchVolumes) {
+        this.scratchVolumes.addAll(scratchVolumes);
+    }
 }
@@ -9,9 +9,15 @@ public class PersistentVolumeClaimModel {
     private boolean readOnly;
     private String accessMode;
     private String volumeClaimSize;
+    private String storageClassName;
+    private String volumeMode;
+    private String dataSource;
+    private String dataSourceKind;
 
     public PersistentVolumeClaimModel() {
         this.accessMode = "ReadWriteOnce";
+        this.volumeMode = "Filesystem";
+        this.dataSourceKind = "PersistentVolumeClaim";
     }
 
     public String getName() {
@@ -53,4 +59,36 @@ public class PersistentVolumeClaimModel {
     public void setVolumeClaimSize(String volumeClaimSize) {
         this.volumeClaimSize = volumeClaimSize;
     }
+
+    public String getStorageClassName() {
+        return storageClassName;
+    }
+
+    public void setStorageClassName(String storageClassName) {
+        this.storageClassName = storageClassName;
+    }
+
+    public String getVolumeMode() {
+        return volumeMode;
+    }
+
+    public void setVolumeMode(String volumeMode) {
+        this.volumeMode = volumeMode;
+    }
+
+    public String getDataSource() {
+        return dataSource;
+    }
+
+    public void setDataSource(String dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public String getDataSourceKind() {
+        return dataSourceKind;
+    }
+
+    public void setDataSourceKind(String dataSourceKind) {
+        this.dataSourceKind = dataSourceKind;
+    }
 }
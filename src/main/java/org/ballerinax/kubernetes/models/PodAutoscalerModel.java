@@ -31,9 +31,23 @@ public class PodAutoscalerModel {
     private int maxReplicas;
     private int cpuPercentage;
     private String deployment;
+    private String deploymentKind;
+    private Integer scaleUpStabilizationWindowSeconds;
+    private Integer scaleUpPercent;
+    private Integer scaleUpPods;
+    private int scaleUpPeriodSeconds;
+    private String scaleUpSelectPolicy;
+    private Integer scaleDownStabilizationWindowSeconds;
+    private Integer scaleDownPercent;
+    private Integer scaleDownPods;
+    private int scaleDownPeriodSeconds;
+    private String scaleDownSelectPolicy;
 
     public PodAutoscalerModel() {
         this.cpuPercentage = 50;
+        this.deploymentKind = "Deployment";
+        this.scaleUpPeriodSeconds = 15;
+        this.scaleDownPeriodSeconds = 15;
         labels = new HashMap<>();
     }
 
@@ -69,6 +83,14 @@ public class PodAutoscalerModel {
         this.cpuPercentage = cpuPercentage;
     }
 
+    public String getDeploymentKind() {
+        return deploymentKind;
+    }
+
+    public void setDeploymentKind(String deploymentKind) {
+        this.deploymentKind = deploymentKind;
+    }
+
     public String getDeployment() {
         return deployment;
     }
@@ -88,4 +110,95 @@ public class PodAutoscalerModel {
     public void addLabel(String key, String value) {
         this.labels.put(key, value);
     }
+
+    public Integer getScaleUpStabilizationWindowSeconds() {
+        return scaleUpStabilizationWindowSeconds;
+    }
+
+    public void setScaleUpStabilizationWindowSeconds(Integer scaleUpStabilizationWindowSeconds) {
+        this.scaleUpStabilizationWindowSeconds = scaleUpStabilizationWindowSeconds;
+    }
+
+    public Integer getScaleUpPercent() {
+        return scaleUpPercent;
+    }
+
+    public void setScaleUpPercent(Integer scaleUpPercent) {
+        this.scaleUpPercent = scaleUpPercent;
+    }
+
+    public Integer getScaleUpPods() {
+        return scaleUpPods;
+    }
+
+    public void setScaleUpPods(Integer scaleUpPods) {
+        this.scaleUpPods = scaleUpPods;
+    }
+
+    public int getScaleUpPeriodSeconds() {
+        return scaleUpPeriodSeconds;
+    }
+
+    public void setScaleUpPeriodSeconds(int scaleUpPeriodSeconds) {
+        this.scaleUpPeriodSeconds = scaleUpPeriodSeconds;
+    }
+
+    public String getScaleUpSelectPolicy() {
+        return scaleUpSelectPolicy;
+    }
+
+    public void setScaleUpSelectPolicy(String scaleUpSelectPolicy) {
+        this.scaleUpSelectPolicy = scaleUpSelectPolicy;
+    }
+
+    public Integer getScaleDownStabilizationWindowSeconds() {
+        return scaleDownStabilizationWindowSeconds;
+    }
+
+    public void setScaleDownStabilizationWindowSeconds(Integer scaleDownStabilizationWindowSeconds) {
+        this.scaleDownStabilizationWindowSeconds = scaleDownStabilizationWindowSeconds;
+    }
+
+    public Integer getScaleDownPercent() {
+        return scaleDownPercent;
+    }
+
+    public void setScaleDownPercent(Integer scaleDownPercent) {
+        this.scaleDownPercent = scaleDownPercent;
+    }
+
+    public Integer getScaleDownPods() {
+        return scaleDownPods;
+    }
+
+    public void setScaleDownPods(Integer scaleDownPods) {
+        this.scaleDownPods = scaleDownPods;
+    }
+
+    public int getScaleDownPeriodSeconds() {
+        return scaleDownPeriodSeconds;
+    }
+
+    public void setScaleDownPeriodSeconds(int scaleDownPeriodSeconds) {
+        this.scaleDownPeriodSeconds = scaleDownPeriodSeconds;
+    }
+
+    public String getScaleDownSelectPolicy() {
+        return scaleDownSelectPolicy;
+    }
+
+    public void setScaleDownSelectPolicy(String scaleDownSelectPolicy) {
+        this.scaleDownSelectPolicy = scaleDownSelectPolicy;
+    }
+
+    /**
+     * Check whether any scale-up or scale-down behavior is configured.
+     *
+     * @return true if the autoscaler needs a behavior section
+     */
+    public boolean isBehaviorEnabled() {
+        return scaleUpStabilizationWindowSeconds != null || scaleUpPercent != null || scaleUpPods != null ||
+                scaleUpSelectPolicy != null || scaleDownStabilizationWindowSeconds != null ||
+                scaleDownPercent != null || scaleDownPods != null || scaleDownSelectPolicy != null;
+    }
 }
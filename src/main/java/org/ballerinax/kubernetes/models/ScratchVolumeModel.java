@@ -0,0 +1,47 @@
+package org.ballerinax.kubernetes.models;
+
+/**
+ * Model class to hold kubernetes scratch volume.
+ */
+public class ScratchVolumeModel {
+    private String name;
+    private String mountPath;
+    private String medium;
+    private String sizeLimit;
+
+    public ScratchVolumeModel() {
+        this.medium = "Disk";
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getMountPath() {
+        return mountPath;
+    }
+
+    public void setMountPath(String mountPath) {
+        this.mountPath = mountPath;
+    }
+
+    public String getMedium() {
+        return medium;
+    }
+
+    public void setMedium(String medium) {
+        this.medium = medium;
+    }
+
+    public String getSizeLimit() {
+        return sizeLimit;
+    }
+
+    public void setSizeLimit(String sizeLimit) {
+        this.sizeLimit = sizeLimit;
+    }
+}
@@ -1,6 +1,8 @@
 package org.ballerinax.kubernetes.models;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Model class to hold kubernetes secret data.
@@ -9,10 +11,14 @@ public class SecretModel {
     private String name;
     private Map<String, String> data;
     private String mountPath;
+    private Set<String> additionalMountPaths;
     private boolean readOnly;
+    private boolean immutable;
+    private String type;
 
     public SecretModel() {
         this.readOnly = true;
+        this.additionalMountPaths = new TreeSet<>();
     }
 
     public String getName() {
@@ -46,4 +52,28 @@ public class SecretModel {
     public void setReadOnly(boolean readOnly) {
         this.readOnly = readOnly;
     }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    public void setImmutable(boolean immutable) {
+        this.immutable = immutable;
+    }
+
+    public Set<String> getAdditionalMountPaths() {
+        return additionalMountPaths;
+    }
+
+    public void addAdditionalMountPath(String mountPath) {
+        this.additionalMountPaths.add(mountPath);
+    }
 }
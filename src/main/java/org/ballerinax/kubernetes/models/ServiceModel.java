@@ -18,6 +18,7 @@
 package org.ballerinax.kubernetes.models;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -29,10 +30,23 @@ public class ServiceModel {
     private String serviceType;
     private int port;
     private String selector;
+    private String portName;
+    private boolean consolidate;
+    private Map<String, Integer> namedPorts;
+    private Map<Integer, String> appProtocols;
+    private String externalTrafficPolicy;
+    private String internalTrafficPolicy;
+    private boolean topologyAwareRouting;
+    private String sessionAffinity;
+    private int sessionAffinityTimeout;
+    private boolean headless;
+    private boolean publishNotReadyAddresses;
 
     public ServiceModel() {
         serviceType = "ClusterIP";
         labels = new HashMap<>();
+        namedPorts = new LinkedHashMap<>();
+        appProtocols = new HashMap<>();
     }
 
     public String getName() {
@@ -79,6 +93,94 @@ public class ServiceModel {
         this.selector = selector;
     }
 
+    public String getPortName() {
+        return portName;
+    }
+
+    public void setPortName(String portName) {
+        this.portName = portName;
+    }
+
+    public boolean isConsolidate() {
+        return consolidate;
+    }
+
+    public void setConsolidate(boolean consolidate) {
+        this.consolidate = consolidate;
+    }
+
+    public Map<Integer, String> getAppProtocols() {
+        return appProtocols;
+    }
+
+    public void addAppProtocol(int port, String appProtocol) {
+        this.appProtocols.put(port, appProtocol);
+    }
+
+    public Map<String, Integer> getNamedPorts() {
+        return namedPorts;
+    }
+
+    public void addNamedPort(String name, int port) {
+        this.namedPorts.put(name, port);
+    }
+
+    public String getExternalTrafficPolicy() {
+        return externalTrafficPolicy;
+    }
+
+    public void setExternalTrafficPolicy(String externalTrafficPolicy) {
+        this.externalTrafficPolicy = externalTrafficPolicy;
+    }
+
+    public String getInternalTrafficPolicy() {
+        return internalTrafficPolicy;
+    }
+
+    public void setInternalTrafficPolicy(String internalTrafficPolicy) {
+        this.internalTrafficPolicy = internalTrafficPolicy;
+    }
+
+    public boolean isTopologyAwareRouting() {
+        return topologyAwareRouting;
+    }
+
+    public void setTopologyAwareRouting(boolean topologyAwareRouting) {
+        this.topologyAwareRouting = topologyAwareRouting;
+    }
+
+    public String getSessionAffinity() {
+        return sessionAffinity;
+    }
+
+    public void setSessionAffinity(String sessionAffinity) {
+        this.sessionAffinity = sessionAffinity;
+    }
+
+    public int getSessionAffinityTimeout() {
+        return sessionAffinityTimeout;
+    }
+
+    public void setSessionAffinityTimeout(int sessionAffinityTimeout) {
+        this.sessionAffinityTimeout = sessionAffinityTimeout;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
+    public boolean isPublishNotReadyAddresses() {
+        return publishNotReadyAddresses;
+    }
+
+    public void setPublishNotReadyAddresses(boolean publishNotReadyAddresses) {
+        this.publishNotReadyAddresses = publishNotReadyAddresses;
+    }
+
     @Override
     public String toString() {
         return "ServiceModel{" +
@@ -87,6 +189,17 @@ public class ServiceModel {
                 ", serviceType='" + serviceType + '\'' +
                 ", port=" + port +
                 ", selector='" + selector + '\'' +
+                ", portName='" + portName + '\'' +
+                ", consolidate=" + consolidate +
+                ", namedPorts=" + namedPorts +
+                ", appProtocols=" + appProtocols +
+                ", externalTrafficPolicy='" + externalTrafficPolicy + '\'' +
+                ", internalTrafficPolicy='" + internalTrafficPolicy + '\'' +
+                ", topologyAwareRouting=" + topologyAwareRouting +
+                ", sessionAffinity='" + sessionAffinity + '\'' +
+                ", sessionAffinityTimeout=" + sessionAffinityTimeout +
+                ", headless=" + headless +
+                ", publishNotReadyAddresses=" + publishNotReadyAddresses +
                 '}';
     }
 }
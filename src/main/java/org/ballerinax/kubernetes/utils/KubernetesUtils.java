@@ -31,8 +31,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Util methods used for artifact generation.
@@ -85,6 +93,77 @@ public class KubernetesUtils {
         throw new KubernetesPluginException("Unable to read contents of the file " + targetFilePath);
     }
 
+    /**
+     * Read contents of files in parallel.
+     *
+     * @param targetFilePaths target file paths
+     * @return file path to content map
+     * @throws KubernetesPluginException If an error occurs when reading a file
+     */
+    public static Map<Path, byte[]> readFileContents(Collection<Path> targetFilePaths) throws
+            KubernetesPluginException {
+        try {
+            return targetFilePaths.parallelStream().collect(Collectors.toMap(Function.identity(), path -> {
+                try {
+                    return readFileContent(path);
+                } catch (KubernetesPluginException e) {
+                    throw new CompletionException(e);
+                }
+            }));
+        } catch (CompletionException e) {
+            throw (KubernetesPluginException) e.getCause();
+        }
+    }
+
+    /**
+     * Generate a short hash of the given data. Keys are sorted so that the hash only depends on the content.
+     *
+     * @param data data of a config map or secret
+     * @return first 10 characters of the hex encoded SHA-256 hash
+     * @throws KubernetesPluginException If the hash algorithm is not available
+     */
+    public static String getContentHash(Map<String, String> data) throws KubernetesPluginException {
+        return getContentHash(data, null);
+    }
+
+    /**
+     * Generate a short hash of the given text and binary data.
+     *
+     * @param data       text data of a config map or secret
+     * @param binaryData binary data of a config map
+     * @return first 10 characters of the hex encoded SHA-256 hash
+     * @throws KubernetesPluginException If the hash algorithm is not available
+     */
+    public static String getContentHash(Map<String, String> data, Map<String, byte[]> binaryData) throws
+            KubernetesPluginException {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            if (data != null) {
+                for (Map.Entry<String, String> entry : new TreeMap<>(data).entrySet()) {
+                    messageDigest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    messageDigest.update((byte) 0);
+                    messageDigest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                    messageDigest.update((byte) 0);
+                }
+            }
+            if (binaryData != null) {
+                for (Map.Entry<String, byte[]> entry : new TreeMap<>(binaryData).entrySet()) {
+                    messageDigest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    messageDigest.update((byte) 1);
+                    messageDigest.update(entry.getValue());
+                    messageDigest.update((byte) 0);
+                }
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte b : messageDigest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.substring(0, 10);
+        } catch (NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("Unable to generate content hash", e);
+        }
+    }
+
     /**
      * Copy file from source to destination.
      *
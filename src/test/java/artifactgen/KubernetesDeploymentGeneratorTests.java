@@ -20,8 +20,15 @@ package org.ballerinalang.artifactgen;
 
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.ConfigMapHandler;
 import org.ballerinax.kubernetes.handlers.DeploymentHandler;
+import org.ballerinax.kubernetes.handlers.PersistentVolumeClaimHandler;
+import org.ballerinax.kubernetes.handlers.SecretHandler;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
 import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.PersistentVolumeClaimModel;
+import org.ballerinax.kubernetes.models.ScratchVolumeModel;
+import org.ballerinax.kubernetes.models.SecretModel;
 import org.ballerinax.kubernetes.utils.KubernetesUtils;
 import org.junit.Assert;
 import org.junit.Test;
@@ -30,8 +37,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -74,4 +83,461 @@ public class KubernetesDeploymentGeneratorTests {
             Assert.fail("Unable to generate yaml from service");
         }
     }
+
+    @Test
+    public void testRollingUpdateStrategyGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyRollingDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setReplicas(3);
+        deploymentModel.setPreserveCapacity(true);
+        deploymentModel.setMaxSurge("1");
+        deploymentModel.setMinReadySeconds(5);
+        deploymentModel.setProgressDeadlineSeconds(120);
+        deploymentModel.setRevisionHistoryLimit(3);
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("type: \"RollingUpdate\""));
+            Assert.assertTrue(deploymentYAML.contains("maxSurge: 1"));
+            Assert.assertTrue(deploymentYAML.contains("maxUnavailable: 0"));
+            Assert.assertTrue(deploymentYAML.contains("minReadySeconds: 5"));
+            Assert.assertTrue(deploymentYAML.contains("progressDeadlineSeconds: 120"));
+            Assert.assertTrue(deploymentYAML.contains("revisionHistoryLimit: 3"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test
+    public void testGracefulShutdownGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDrainingDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setDrainSeconds(10);
+        deploymentModel.setPorts(new HashSet<>(Arrays.asList(9095, 9090, 9092)));
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("preStop"));
+            Assert.assertTrue(deploymentYAML.contains("readinessProbe"));
+            Assert.assertTrue(deploymentYAML.contains("test ! -f /tmp/ballerina-drain"));
+            Assert.assertTrue(deploymentYAML.contains("failureThreshold: 2"));
+            Assert.assertTrue(deploymentYAML.contains("periodSeconds: 5"));
+            Assert.assertTrue(deploymentYAML.contains("startupProbe"));
+            Assert.assertTrue(deploymentYAML.contains("port: 9090"));
+            Assert.assertFalse(deploymentYAML.contains("nc -z"));
+            Assert.assertTrue(deploymentYAML.contains("terminationGracePeriodSeconds: 40"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test
+    public void testReplicaSpreadGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MySpreadDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setReplicas(3);
+        deploymentModel.setPodAntiAffinity("preferred");
+        deploymentModel.setTopologySpreadKey("topology.kubernetes.io/zone");
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("podAntiAffinity"));
+            Assert.assertTrue(deploymentYAML.contains("topologyKey: \"kubernetes.io/hostname\""));
+            Assert.assertTrue(deploymentYAML.contains("topologySpreadConstraints"));
+            Assert.assertTrue(deploymentYAML.contains("topologyKey: \"topology.kubernetes.io/zone\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testReplicaSpreadInvalidMaxSkew() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MySpreadDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setTopologySpreadKey("topology.kubernetes.io/zone");
+        deploymentModel.setMaxSkew(0);
+        new DeploymentHandler(deploymentModel).generate();
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testReplicaSpreadInvalidWhenUnsatisfiable() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MySpreadDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setTopologySpreadKey("topology.kubernetes.io/zone");
+        deploymentModel.setWhenUnsatisfiable("Schedule");
+        new DeploymentHandler(deploymentModel).generate();
+    }
+
+    @Test
+    public void testPodAffinityGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyColocatedDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        Map<String, String> cacheLabels = new HashMap<>();
+        cacheLabels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "redis");
+        deploymentModel.addPodAffinityLabels(cacheLabels);
+        deploymentModel.setPodAffinityWeight(80);
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("podAffinity"));
+            Assert.assertTrue(deploymentYAML.contains("app: \"redis\""));
+            Assert.assertTrue(deploymentYAML.contains("weight: 80"));
+            Assert.assertFalse(deploymentYAML.contains("podAntiAffinity"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testPodAffinityInvalidWeight() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyColocatedDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        Map<String, String> cacheLabels = new HashMap<>();
+        cacheLabels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "redis");
+        deploymentModel.addPodAffinityLabels(cacheLabels);
+        deploymentModel.setPodAffinityWeight(101);
+        new DeploymentHandler(deploymentModel).generate();
+    }
+
+    @Test
+    public void testNodePlacementGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyPlacedDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        Map<String, String> nodeLabels = new HashMap<>();
+        nodeLabels.put("node-pool", "high-cpu");
+        deploymentModel.setNodeSelector(nodeLabels);
+        deploymentModel.setPreferredNodeAffinity(nodeLabels);
+        deploymentModel.addToleration("dedicated=high-cpu:NoSchedule");
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("node-pool: \"high-cpu\""));
+            Assert.assertTrue(deploymentYAML.contains("nodeAffinity"));
+            Assert.assertTrue(deploymentYAML.contains("effect: \"NoSchedule\""));
+            Assert.assertTrue(deploymentYAML.contains("operator: \"Equal\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test
+    public void testStatefulSetGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyStatefulSet");
+        deploymentModel.setKind(KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET);
+        deploymentModel.setServiceName("my-headless-svc");
+        deploymentModel.setReplicas(3);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        PersistentVolumeClaimModel volumeClaimModel = new PersistentVolumeClaimModel();
+        volumeClaimModel.setName("data");
+        volumeClaimModel.setMountPath("/data");
+        volumeClaimModel.setAccessMode("ReadWriteOnce");
+        volumeClaimModel.setVolumeClaimSize("1Gi");
+        volumeClaimModel.setStorageClassName("fast-ssd");
+        volumeClaimModel.setDataSource("data-snapshot");
+        volumeClaimModel.setDataSourceKind(KubernetesConstants.DATA_SOURCE_KIND_SNAPSHOT);
+        Set<PersistentVolumeClaimModel> volumeClaimModels = new HashSet<>();
+        volumeClaimModels.add(volumeClaimModel);
+        deploymentModel.setVolumeClaimModels(volumeClaimModels);
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("kind: \"StatefulSet\""));
+            Assert.assertTrue(deploymentYAML.contains("apiVersion: \"apps/v1\""));
+            Assert.assertTrue(deploymentYAML.contains("serviceName: \"my-headless-svc\""));
+            Assert.assertTrue(deploymentYAML.contains("volumeClaimTemplates"));
+            Assert.assertTrue(deploymentYAML.contains("storageClassName: \"fast-ssd\""));
+            Assert.assertTrue(deploymentYAML.contains("apiGroup: \"snapshot.storage.k8s.io\""));
+            Assert.assertTrue(deploymentYAML.contains("kind: \"VolumeSnapshot\""));
+            Assert.assertFalse(deploymentYAML.contains("claimName"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testStatefulSetWithStrategy() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyStatefulSet");
+        deploymentModel.setKind(KubernetesConstants.DEPLOYMENT_KIND_STATEFUL_SET);
+        deploymentModel.setServiceName("my-headless-svc");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setMaxSurge("1");
+        new DeploymentHandler(deploymentModel).generate();
+    }
+
+    @Test
+    public void testBlockVolumeClaimGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        PersistentVolumeClaimModel volumeClaimModel = new PersistentVolumeClaimModel();
+        volumeClaimModel.setName("raw-data");
+        volumeClaimModel.setMountPath("/dev/xvda");
+        volumeClaimModel.setVolumeClaimSize("10Gi");
+        volumeClaimModel.setStorageClassName("fast-ssd");
+        volumeClaimModel.setVolumeMode(KubernetesConstants.VOLUME_MODE_BLOCK);
+        volumeClaimModel.setDataSource("seed-data");
+        Set<PersistentVolumeClaimModel> volumeClaimModels = new HashSet<>();
+        volumeClaimModels.add(volumeClaimModel);
+        deploymentModel.setVolumeClaimModels(volumeClaimModels);
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("volumeDevices"));
+            Assert.assertTrue(deploymentYAML.contains("devicePath: \"/dev/xvda\""));
+            Assert.assertFalse(deploymentYAML.contains("mountPath: \"/dev/xvda\""));
+            Assert.assertTrue(deploymentYAML.contains("claimName: \"raw-data\""));
+            String volumeClaimYAML = new PersistentVolumeClaimHandler(volumeClaimModel).generate();
+            log.info("Generated YAML: \n" + volumeClaimYAML);
+            Assert.assertTrue(volumeClaimYAML.contains("storageClassName: \"fast-ssd\""));
+            Assert.assertTrue(volumeClaimYAML.contains("volumeMode: \"Block\""));
+            Assert.assertTrue(volumeClaimYAML.contains("kind: \"PersistentVolumeClaim\"\n    name: \"seed-data\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test
+    public void testScratchVolumeGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        ScratchVolumeModel cacheVolume = new ScratchVolumeModel();
+        cacheVolume.setName("cache");
+        cacheVolume.setMountPath("/cache");
+        cacheVolume.setMedium(KubernetesConstants.SCRATCH_MEDIUM_MEMORY);
+        cacheVolume.setSizeLimit("256Mi");
+        ScratchVolumeModel uploadVolume = new ScratchVolumeModel();
+        uploadVolume.setName("uploads");
+        uploadVolume.setMountPath("/uploads");
+        Set<ScratchVolumeModel> scratchVolumeModels = new HashSet<>();
+        scratchVolumeModels.add(cacheVolume);
+        scratchVolumeModels.add(uploadVolume);
+        deploymentModel.setScratchVolumeModels(scratchVolumeModels);
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("medium: \"Memory\""));
+            Assert.assertTrue(deploymentYAML.contains("sizeLimit"));
+            Assert.assertTrue(deploymentYAML.contains("name: \"uploads-volume\""));
+            Assert.assertTrue(deploymentYAML.contains("mountPath: \"/cache\""));
+            Assert.assertTrue(deploymentYAML.contains("mountPath: \"/uploads\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+    }
+
+    @Test
+    public void testProjectedVolumeGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setProjectedVolumes(true);
+        Set<SecretModel> secretModels = new HashSet<>();
+        secretModels.add(createSecretModel("keystore", "/home/ballerina/security", "keystore.p12"));
+        secretModels.add(createSecretModel("truststore", "/home/ballerina/security", "truststore.p12"));
+        secretModels.add(createSecretModel("db-password", "/home/ballerina/db", "password"));
+        deploymentModel.setSecretModels(secretModels);
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("security-conf");
+        configMapModel.setMountPath("/home/ballerina/security");
+        Map<String, String> configData = new HashMap<>();
+        configData.put("security.conf", "enabled=true");
+        configMapModel.setData(configData);
+        Set<ConfigMapModel> configMapModels = new HashSet<>();
+        configMapModels.add(configMapModel);
+        deploymentModel.setConfigMapModels(configMapModels);
+        try {
+            String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + deploymentYAML);
+            Assert.assertTrue(deploymentYAML.contains("projected"));
+            Assert.assertTrue(deploymentYAML.contains("name: \"projected-0-volume\""));
+            Assert.assertTrue(deploymentYAML.contains("name: \"db-password-volume\""));
+            Assert.assertFalse(deploymentYAML.contains("keystore-volume"));
+            Assert.assertFalse(deploymentYAML.contains("security-conf-volume"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from deployment");
+        }
+        secretModels.add(createSecretModel("security-keys", "/home/ballerina/security", "security.conf"));
+        try {
+            new DeploymentHandler(deploymentModel).generate();
+            Assert.fail("Duplicate files in a projected volume should not be allowed");
+        } catch (KubernetesPluginException e) {
+            Assert.assertTrue(e.getMessage().contains("security.conf"));
+        }
+    }
+
+    @Test
+    public void testImmutableConfigGenerate() throws KubernetesPluginException {
+        Map<String, String> data = new HashMap<>();
+        data.put("ballerina.conf", "[b7a.log]\nlevel=INFO");
+        data.put("logging.properties", "handlers=console");
+        Map<String, String> reorderedData = new LinkedHashMap<>();
+        reorderedData.put("logging.properties", "handlers=console");
+        reorderedData.put("ballerina.conf", "[b7a.log]\nlevel=INFO");
+        String hash = KubernetesUtils.getContentHash(data);
+        Assert.assertEquals(10, hash.length());
+        Assert.assertEquals(hash, KubernetesUtils.getContentHash(reorderedData));
+        reorderedData.put("ballerina.conf", "[b7a.log]\nlevel=DEBUG");
+        Assert.assertNotEquals(hash, KubernetesUtils.getContentHash(reorderedData));
+
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("ballerina-config-" + hash);
+        configMapModel.setMountPath("/home/ballerina/conf");
+        configMapModel.setData(data);
+        configMapModel.setImmutable(true);
+        String configMapYAML = new ConfigMapHandler(configMapModel).generate();
+        log.info("Generated YAML: \n" + configMapYAML);
+        Assert.assertTrue(configMapYAML.contains("immutable: true"));
+        SecretModel secretModel = createSecretModel("keystore", "/home/ballerina/security", "keystore.p12");
+        secretModel.setImmutable(true);
+        String secretYAML = new SecretHandler(secretModel).generate();
+        log.info("Generated YAML: \n" + secretYAML);
+        Assert.assertTrue(secretYAML.contains("immutable: true"));
+
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        Set<ConfigMapModel> configMapModels = new HashSet<>();
+        configMapModels.add(configMapModel);
+        deploymentModel.setConfigMapModels(configMapModels);
+        String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+        log.info("Generated YAML: \n" + deploymentYAML);
+        Assert.assertTrue(deploymentYAML.contains("name: \"ballerina-config-" + hash + "\""));
+    }
+
+    @Test
+    public void testConfigMapBinaryDataGenerate() throws KubernetesPluginException {
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("assets");
+        configMapModel.setMountPath("/home/ballerina/assets");
+        configMapModel.getData().put("index.html", "<html></html>");
+        configMapModel.getBinaryData().put("logo.png", new byte[]{(byte) 0x89, 0x50, 0x4e, 0x47, 0x00});
+        String configMapYAML = new ConfigMapHandler(configMapModel).generate();
+        log.info("Generated YAML: \n" + configMapYAML);
+        Assert.assertTrue(configMapYAML.contains("index.html: \"<html></html>\""));
+        Assert.assertTrue(configMapYAML.contains("logo.png: \"iVBORwA=\""));
+        String hash = KubernetesUtils.getContentHash(configMapModel.getData(), configMapModel.getBinaryData());
+        configMapModel.getBinaryData().put("logo.png", new byte[]{(byte) 0x89, 0x50, 0x4e, 0x47, 0x01});
+        Assert.assertNotEquals(hash, KubernetesUtils.getContentHash(configMapModel.getData(),
+                configMapModel.getBinaryData()));
+    }
+
+    @Test
+    public void testSharedSecretGenerate() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        SecretModel secretModel = createSecretModel("listener-keystore", "/home/ballerina/security", "keystore.p12");
+        secretModel.addAdditionalMountPath("/home/ballerina/admin-security");
+        Set<SecretModel> secretModels = new HashSet<>();
+        secretModels.add(secretModel);
+        deploymentModel.setSecretModels(secretModels);
+        String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+        log.info("Generated YAML: \n" + deploymentYAML);
+        Assert.assertTrue(deploymentYAML.contains("mountPath: \"/home/ballerina/security\""));
+        Assert.assertTrue(deploymentYAML.contains("mountPath: \"/home/ballerina/admin-security\""));
+        Assert.assertEquals(1, deploymentYAML.split("secretName: \"listener-keystore\"").length - 1);
+    }
+
+    @Test
+    public void testSecretShardGenerate() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setProjectedVolumes(true);
+        SecretModel firstShard = createSecretModel("certs-shard-0", "/home/ballerina/certs", "a.pem");
+        firstShard.addAdditionalMountPath("/home/ballerina/admin-certs");
+        SecretModel secondShard = createSecretModel("certs-shard-1", "/home/ballerina/certs", "b.pem");
+        secondShard.addAdditionalMountPath("/home/ballerina/admin-certs");
+        Set<SecretModel> secretModels = new HashSet<>();
+        secretModels.add(firstShard);
+        secretModels.add(secondShard);
+        deploymentModel.setSecretModels(secretModels);
+        String deploymentYAML = new DeploymentHandler(deploymentModel).generate();
+        log.info("Generated YAML: \n" + deploymentYAML);
+        Assert.assertTrue(deploymentYAML.contains("name: \"projected-0-volume\""));
+        Assert.assertTrue(deploymentYAML.contains("name: \"projected-1-volume\""));
+        Assert.assertFalse(deploymentYAML.contains("certs-shard-0-volume"));
+        Assert.assertEquals(2, deploymentYAML.split("name: \"certs-shard-0\"").length - 1);
+    }
+
+    private SecretModel createSecretModel(String name, String mountPath, String file) {
+        SecretModel secretModel = new SecretModel();
+        secretModel.setName(name);
+        secretModel.setMountPath(mountPath);
+        Map<String, String> data = new HashMap<>();
+        data.put(file, "c2VjcmV0");
+        secretModel.setData(data);
+        return secretModel;
+    }
+
+    @Test
+    public void testJobGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyJob");
+        deploymentModel.setKind(KubernetesConstants.DEPLOYMENT_KIND_JOB);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setParallelism(4);
+        deploymentModel.setCompletions(8);
+        deploymentModel.setIndexedCompletion(true);
+        deploymentModel.setBackoffLimit(2);
+        try {
+            String jobYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + jobYAML);
+            Assert.assertTrue(jobYAML.contains("kind: \"Job\""));
+            Assert.assertTrue(jobYAML.contains("parallelism: 4"));
+            Assert.assertTrue(jobYAML.contains("completionMode: \"Indexed\""));
+            Assert.assertTrue(jobYAML.contains("backoffLimit: 2"));
+            Assert.assertTrue(jobYAML.contains("restartPolicy: \"OnFailure\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from job");
+        }
+    }
+
+    @Test
+    public void testCronJobGenerate() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyCronJob");
+        deploymentModel.setKind(KubernetesConstants.DEPLOYMENT_KIND_CRON_JOB);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setSchedule("*/5 * * * *");
+        deploymentModel.setConcurrencyPolicy("Forbid");
+        try {
+            String cronJobYAML = new DeploymentHandler(deploymentModel).generate();
+            log.info("Generated YAML: \n" + cronJobYAML);
+            Assert.assertTrue(cronJobYAML.contains("apiVersion: \"batch/v1\""));
+            Assert.assertTrue(cronJobYAML.contains("schedule: \"*/5 * * * *\""));
+            Assert.assertTrue(cronJobYAML.contains("concurrencyPolicy: \"Forbid\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from cron job");
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.artifactgen;
+
+import org.ballerinax.kubernetes.KubernetesConstants;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.HPAHandler;
+import org.ballerinax.kubernetes.models.PodAutoscalerModel;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Generates kubernetes Horizontal Pod Autoscaler from annotations.
+ */
+public class KubernetesHPAGeneratorTests {
+
+    private final Logger log = LoggerFactory.getLogger(KubernetesHPAGeneratorTests.class);
+
+    @Test
+    public void testHPAGenerate() {
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setName("MyHPA");
+        podAutoscalerModel.setDeployment("MyDeployment");
+        podAutoscalerModel.setMinReplicas(2);
+        podAutoscalerModel.setMaxReplicas(10);
+        podAutoscalerModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        podAutoscalerModel.setScaleUpStabilizationWindowSeconds(0);
+        podAutoscalerModel.setScaleUpPercent(100);
+        podAutoscalerModel.setScaleUpPods(4);
+        podAutoscalerModel.setScaleUpSelectPolicy("Max");
+        podAutoscalerModel.setScaleDownStabilizationWindowSeconds(300);
+        podAutoscalerModel.setScaleDownPods(1);
+        podAutoscalerModel.setScaleDownPeriodSeconds(60);
+        try {
+            String hpaYAML = new HPAHandler(podAutoscalerModel).generate();
+            Assert.assertNotNull(hpaYAML);
+            Assert.assertTrue(hpaYAML.contains("autoscaling/v2"));
+            Assert.assertTrue(hpaYAML.contains("behavior"));
+            Assert.assertTrue(hpaYAML.contains("apiVersion: \"apps/v1\""));
+            Assert.assertFalse(hpaYAML.contains("extensions/v1beta1"));
+            Assert.assertTrue(hpaYAML.contains("stabilizationWindowSeconds: 300"));
+            Assert.assertFalse(hpaYAML.contains("targetCPUUtilizationPercentage"));
+            File artifactLocation = new File("target/kubernetes");
+            artifactLocation.mkdir();
+            File tempFile = File.createTempFile("temp", podAutoscalerModel.getName() + ".yaml", artifactLocation);
+            KubernetesUtils.writeToFile(hpaYAML, tempFile.getPath());
+            log.info("Generated YAML: \n" + hpaYAML);
+            Assert.assertTrue(tempFile.exists());
+            tempFile.deleteOnExit();
+        } catch (IOException e) {
+            Assert.fail("Unable to write to file");
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from autoscaler");
+        }
+    }
+}
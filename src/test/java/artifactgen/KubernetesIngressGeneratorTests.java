@@ -18,6 +18,8 @@
 
 package org.ballerinalang.artifactgen;
 
+import io.fabric8.kubernetes.api.model.extensions.Ingress;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.kubernetes.KubernetesConstants;
 import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
 import org.ballerinax.kubernetes.handlers.IngressHandler;
@@ -69,4 +71,151 @@ public class KubernetesIngressGeneratorTests {
             Assert.fail("Unable to generate yaml from ingress");
         }
     }
+
+    @Test
+    public void testIngressTuningGenerator() {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("MyTunedIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("HelloWorldService");
+        ingressModel.setTuningPreset("high-throughput");
+        ingressModel.setProxyBodySize("128m");
+        try {
+            String ingressYaml = new IngressHandler(ingressModel).generate();
+            log.info("Generated YAML: \n" + ingressYaml);
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/proxy-buffering: \"on\""));
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/proxy-http-version: \"1.1\""));
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/proxy-body-size: \"128m\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from ingress");
+        }
+    }
+
+    @Test
+    public void testIngressTLSTerminationGenerator() {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("MyTLSIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("HelloWorldService");
+        ingressModel.setEnableTLS(true);
+        ingressModel.setTlsMode(KubernetesConstants.INGRESS_TLS_REENCRYPT);
+        ingressModel.setTlsSecretName("helloworldep-tls");
+        ingressModel.setSslSessionTimeout("10m");
+        try {
+            String ingressYaml = new IngressHandler(ingressModel).generate();
+            log.info("Generated YAML: \n" + ingressYaml);
+            Assert.assertTrue(ingressYaml.contains("secretName: \"helloworldep-tls\""));
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/backend-protocol: \"HTTPS\""));
+            Assert.assertTrue(ingressYaml.contains("ssl_session_timeout 10m;"));
+            Assert.assertFalse(ingressYaml.contains("ssl-passthrough"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from ingress");
+        }
+    }
+
+    @Test
+    public void testConsolidatedIngressGenerator() {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("OrderIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setPath("/orders");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("OrderService");
+        IngressModel pathIngressModel = new IngressModel();
+        pathIngressModel.setName("PaymentIngress");
+        pathIngressModel.setHostname("abc.com");
+        pathIngressModel.setPath("/payments");
+        pathIngressModel.setServicePort(9091);
+        pathIngressModel.setServiceName("PaymentService");
+        ingressModel.addConsolidatedIngressModel(pathIngressModel);
+        try {
+            String ingressYaml = new IngressHandler(ingressModel).generate();
+            log.info("Generated YAML: \n" + ingressYaml);
+            Assert.assertTrue(ingressYaml.contains("serviceName: \"OrderService\""));
+            Assert.assertTrue(ingressYaml.contains("serviceName: \"PaymentService\""));
+            Assert.assertTrue(ingressYaml.contains("path: \"/payments\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from ingress");
+        }
+    }
+
+    @Test
+    public void testIngressCacheGenerator() {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("MyCachedIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("HelloWorldService");
+        ingressModel.setEnableCache(true);
+        ingressModel.setCacheTTL("5m");
+        ingressModel.addCachePath("/catalog");
+        ingressModel.addCachePath("/static/app.js");
+        try {
+            String ingressYaml = new IngressHandler(ingressModel).generate();
+            log.info("Generated YAML: \n" + ingressYaml);
+            Assert.assertTrue(ingressYaml.contains("proxy_cache ballerina_cache;"));
+            Assert.assertTrue(ingressYaml.contains("proxy_cache_valid 200 301 302 5m;"));
+            Ingress ingress = SerializationUtils.getMapper().readValue(ingressYaml, Ingress.class);
+            Assert.assertTrue(ingress.getMetadata().getAnnotations()
+                    .get("nginx.ingress.kubernetes.io/configuration-snippet")
+                    .contains("if ($uri ~ \"^(/catalog|/static/app\\.js)\")"));
+        } catch (KubernetesPluginException | IOException e) {
+            Assert.fail("Unable to generate yaml from ingress");
+        }
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testIngressCachePathWithQuote() throws KubernetesPluginException {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("MyCachedIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("HelloWorldService");
+        ingressModel.setEnableCache(true);
+        ingressModel.addCachePath("/catalog\"");
+        new IngressHandler(ingressModel).generate();
+    }
+
+    @Test
+    public void testIngressRateLimitGenerator() {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("MyLimitedIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("HelloWorldService");
+        ingressModel.setLimitRps(50);
+        ingressModel.setLimitBurstMultiplier(3);
+        ingressModel.setLimitConnections(20);
+        ingressModel.addLimitAllowList("10.0.0.0/8");
+        ingressModel.addLimitAllowList("192.168.0.0/16");
+        try {
+            String ingressYaml = new IngressHandler(ingressModel).generate();
+            log.info("Generated YAML: \n" + ingressYaml);
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/limit-rps: \"50\""));
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/limit-burst-multiplier: \"3\""));
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/limit-connections: \"20\""));
+            Assert.assertTrue(ingressYaml.contains("limit-whitelist: \"10.0.0.0/8,192.168.0.0/16\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from ingress");
+        }
+    }
+
+    @Test
+    public void testIngressGrpcBackendGenerator() {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("MyGrpcIngress");
+        ingressModel.setHostname("abc.com");
+        ingressModel.setServicePort(9090);
+        ingressModel.setServiceName("HelloWorldService");
+        ingressModel.setBackendProtocol(KubernetesConstants.INGRESS_BACKEND_GRPC);
+        try {
+            String ingressYaml = new IngressHandler(ingressModel).generate();
+            log.info("Generated YAML: \n" + ingressYaml);
+            Assert.assertTrue(ingressYaml.contains("nginx.ingress.kubernetes.io/backend-protocol: \"GRPC\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from ingress");
+        }
+    }
 }
@@ -67,4 +67,98 @@ public class KubernetesServiceGeneratorTests {
             Assert.fail("Unable to generate yaml from service");
         }
     }
+
+    @Test
+    public void testMultiPortServiceGenerate() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("MyMultiPortService");
+        serviceModel.setSelector("MyAPP");
+        serviceModel.addNamedPort("http", 9090);
+        serviceModel.addNamedPort("admin", 9091);
+        try {
+            String serviceYAML = new ServiceHandler(serviceModel).generate();
+            log.info("Generated YAML: \n" + serviceYAML);
+            Assert.assertTrue(serviceYAML.contains("name: \"http\""));
+            Assert.assertTrue(serviceYAML.contains("port: 9090"));
+            Assert.assertTrue(serviceYAML.contains("name: \"admin\""));
+            Assert.assertTrue(serviceYAML.contains("port: 9091"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from service");
+        }
+    }
+
+    @Test
+    public void testTrafficPolicyServiceGenerate() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("MyLocalService");
+        serviceModel.setPort(9090);
+        serviceModel.setServiceType("LoadBalancer");
+        serviceModel.setSelector("MyAPP");
+        serviceModel.setExternalTrafficPolicy("Local");
+        serviceModel.setTopologyAwareRouting(true);
+        serviceModel.setSessionAffinity("ClientIP");
+        serviceModel.setSessionAffinityTimeout(600);
+        try {
+            String serviceYAML = new ServiceHandler(serviceModel).generate();
+            log.info("Generated YAML: \n" + serviceYAML);
+            Assert.assertTrue(serviceYAML.contains("externalTrafficPolicy: \"Local\""));
+            Assert.assertTrue(serviceYAML.contains("service.kubernetes.io/topology-mode: \"Auto\""));
+            Assert.assertTrue(serviceYAML.contains("sessionAffinity: \"ClientIP\""));
+            Assert.assertTrue(serviceYAML.contains("timeoutSeconds: 600"));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from service");
+        }
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testInvalidTrafficPolicyService() throws KubernetesPluginException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("MyLocalService");
+        serviceModel.setPort(9090);
+        serviceModel.setSelector("MyAPP");
+        serviceModel.setInternalTrafficPolicy("local");
+        new ServiceHandler(serviceModel).generate();
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testInvalidSessionAffinityService() throws KubernetesPluginException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("MyStickyService");
+        serviceModel.setPort(9090);
+        serviceModel.setSelector("MyAPP");
+        serviceModel.setSessionAffinity("ClientIp");
+        new ServiceHandler(serviceModel).generate();
+    }
+
+    @Test
+    public void testHeadlessServiceGenerate() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("MyHeadlessService");
+        serviceModel.setPort(9090);
+        serviceModel.setSelector("MyAPP");
+        serviceModel.setHeadless(true);
+        try {
+            String serviceYAML = new ServiceHandler(serviceModel).generate();
+            log.info("Generated YAML: \n" + serviceYAML);
+            Assert.assertTrue(serviceYAML.contains("clusterIP: \"None\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from service");
+        }
+    }
+
+    @Test
+    public void testAppProtocolServiceGenerate() {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("MyGrpcService");
+        serviceModel.setPort(9090);
+        serviceModel.setSelector("MyAPP");
+        serviceModel.addAppProtocol(9090, "grpc");
+        try {
+            String serviceYAML = new ServiceHandler(serviceModel).generate();
+            log.info("Generated YAML: \n" + serviceYAML);
+            Assert.assertTrue(serviceYAML.contains("appProtocol: \"grpc\""));
+        } catch (KubernetesPluginException e) {
+            Assert.fail("Unable to generate yaml from service");
+        }
+    }
 }
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinax.kubernetes;
+
+import io.fabric8.kubernetes.api.model.Volume;
+import io.fabric8.kubernetes.api.model.extensions.Deployment;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import org.ballerinax.kubernetes.exceptions.KubernetesPluginException;
+import org.ballerinax.kubernetes.handlers.DeploymentHandler;
+import org.ballerinax.kubernetes.models.ConfigMapModel;
+import org.ballerinax.kubernetes.models.DeploymentModel;
+import org.ballerinax.kubernetes.models.IngressModel;
+import org.ballerinax.kubernetes.models.KubernetesDataHolder;
+import org.ballerinax.kubernetes.models.SecretModel;
+import org.ballerinax.kubernetes.models.ServiceModel;
+import org.ballerinax.kubernetes.utils.KubernetesUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for processing of kubernetes annotations.
+ */
+public class KubernetesAnnotationProcessorTests {
+
+    private final KubernetesAnnotationProcessor annotationProcessor = new KubernetesAnnotationProcessor();
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testConsolidateServicesWithDifferentSettings() throws KubernetesPluginException {
+        ServiceModel adminService = createServiceModel("admin-svc", "admin", 9091);
+        ServiceModel httpService = createServiceModel("http-svc", "http", 9090);
+        ServiceModel peerService = createServiceModel("peer-svc", "peer", 9092);
+        peerService.setHeadless(true);
+        peerService.setPublishNotReadyAddresses(true);
+        List<ServiceModel> serviceModels = new ArrayList<>();
+        serviceModels.add(httpService);
+        serviceModels.add(peerService);
+        serviceModels.add(adminService);
+        Collection<ServiceModel> services = annotationProcessor.consolidateServices(serviceModels);
+        Assert.assertEquals(2, services.size());
+        Assert.assertTrue(services.contains(adminService));
+        Assert.assertTrue(services.contains(peerService));
+        Assert.assertEquals("admin-svc", httpService.getName());
+        Assert.assertEquals(2, adminService.getNamedPorts().size());
+        Assert.assertFalse(adminService.isHeadless());
+        Assert.assertEquals(1, peerService.getNamedPorts().size());
+        Assert.assertTrue(peerService.isHeadless());
+    }
+
+    @Test
+    public void testConsolidateServicesWithDifferentTrafficSettings() throws KubernetesPluginException {
+        ServiceModel httpService = createServiceModel("http-svc", "http", 9090);
+        ServiceModel grpcService = createServiceModel("grpc-svc", "grpc", 9092);
+        grpcService.setSessionAffinity("ClientIP");
+        grpcService.setSessionAffinityTimeout(600);
+        ServiceModel localService = createServiceModel("local-svc", "local", 9093);
+        localService.setInternalTrafficPolicy("Local");
+        ServiceModel zoneService = createServiceModel("zone-svc", "zone", 9094);
+        zoneService.setTopologyAwareRouting(true);
+        ServiceModel publicService = createServiceModel("public-svc", "public", 9095);
+        publicService.setServiceType("LoadBalancer");
+        publicService.setExternalTrafficPolicy("Local");
+        ServiceModel otherPublicService = createServiceModel("other-public-svc", "other", 9096);
+        otherPublicService.setServiceType("LoadBalancer");
+        List<ServiceModel> serviceModels = new ArrayList<>();
+        serviceModels.add(httpService);
+        serviceModels.add(grpcService);
+        serviceModels.add(localService);
+        serviceModels.add(zoneService);
+        serviceModels.add(publicService);
+        serviceModels.add(otherPublicService);
+        Collection<ServiceModel> services = annotationProcessor.consolidateServices(serviceModels);
+        Assert.assertEquals(6, services.size());
+        Assert.assertEquals("ClientIP", grpcService.getSessionAffinity());
+        Assert.assertEquals("Local", publicService.getExternalTrafficPolicy());
+        Assert.assertEquals("http-svc", httpService.getName());
+    }
+
+    @Test
+    public void testSetAppProtocolsOfReencryptIngress() throws KubernetesPluginException {
+        IngressModel ingressModel = new IngressModel();
+        ingressModel.setName("secure-ingress");
+        ingressModel.setEnableTLS(true);
+        ingressModel.setTlsMode("reencrypt");
+        ServiceModel serviceModel = createServiceModel("secure-svc", "https", 9095);
+        Map<IngressModel, Set<String>> ingressModels = new HashMap<>();
+        ingressModels.put(ingressModel, Collections.singleton("secureEndpoint"));
+        annotationProcessor.setAppProtocols(ingressModels, Collections.singletonMap("secureEndpoint", serviceModel));
+        Assert.assertEquals("https", serviceModel.getAppProtocols().get(9095));
+    }
+
+    @Test
+    public void testAssignPortNames() throws KubernetesPluginException {
+        ServiceModel firstService = createServiceModel("first-svc", null, 9090);
+        ServiceModel secondService = createServiceModel("second-svc", null, 9091);
+        ServiceModel thirdService = createServiceModel("third-svc", null, 9092);
+        ServiceModel plainService = createServiceModel("plain-svc", null, 9093);
+        plainService.setConsolidate(false);
+        Map<String, ServiceModel> endpointToServiceModelMap = new HashMap<>();
+        endpointToServiceModelMap.put("helloWorldEndpoint2", secondService);
+        endpointToServiceModelMap.put("helloWorldEndpoint1", firstService);
+        endpointToServiceModelMap.put("my__ep", thirdService);
+        endpointToServiceModelMap.put("helloWorldEndpoint3", plainService);
+        annotationProcessor.assignPortNames(endpointToServiceModelMap);
+        Assert.assertEquals("helloworldendpo", firstService.getPortName());
+        Assert.assertEquals("helloworldend-2", secondService.getPortName());
+        Assert.assertEquals("my-ep", thirdService.getPortName());
+        Assert.assertNull(plainService.getPortName());
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testAssignDuplicatePortNames() throws KubernetesPluginException {
+        Map<String, ServiceModel> endpointToServiceModelMap = new HashMap<>();
+        endpointToServiceModelMap.put("httpEndpoint", createServiceModel("http-svc", "http", 9090));
+        endpointToServiceModelMap.put("adminEndpoint", createServiceModel("admin-svc", "http", 9091));
+        annotationProcessor.assignPortNames(endpointToServiceModelMap);
+    }
+
+    @Test
+    public void testDeduplicateSecrets() {
+        SecretModel adminSecret = createSecretModel("admin-secret", "/admin", "keystore");
+        SecretModel httpSecret = createSecretModel("http-secret", "/http", "keystore");
+        SecretModel grpcSecret = createSecretModel("grpc-secret", "/grpc", "truststore");
+        List<SecretModel> secretModels = new ArrayList<>();
+        secretModels.add(httpSecret);
+        secretModels.add(grpcSecret);
+        secretModels.add(adminSecret);
+        Set<SecretModel> secrets = annotationProcessor.deduplicateSecrets(secretModels);
+        Assert.assertEquals(2, secrets.size());
+        Assert.assertTrue(secrets.contains(adminSecret));
+        Assert.assertTrue(secrets.contains(grpcSecret));
+        Assert.assertTrue(adminSecret.getAdditionalMountPaths().contains("/http"));
+        Assert.assertTrue(grpcSecret.getAdditionalMountPaths().isEmpty());
+    }
+
+    @Test
+    public void testShardConfigs() throws KubernetesPluginException {
+        // each entry is measured as key and value: a.pem is 15 bytes, b.pem 8 bytes and c.pem 6 bytes.
+        Map<String, String> data = new HashMap<>();
+        data.put("c.pem", "c");
+        data.put("a.pem", "aaaaaaaaaa");
+        data.put("b.pem", "bbb");
+        SecretModel secretModel = createSecretModel("certs", "/certs", "keystore");
+        secretModel.setData(data);
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("config");
+        configMapModel.getData().put("e.conf", "ee");
+        configMapModel.getBinaryData().put("d.bin", new byte[]{1, 2, 3});
+        KubernetesDataHolder kubernetesDataHolder = new KubernetesDataHolder();
+        kubernetesDataHolder.addSecrets(Collections.singleton(secretModel));
+        kubernetesDataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setMaxConfigSize(20);
+        annotationProcessor.shardConfigs(kubernetesDataHolder, deploymentModel);
+        List<SecretModel> shards = new ArrayList<>(kubernetesDataHolder.getSecrets());
+        Assert.assertEquals(2, shards.size());
+        Assert.assertEquals("certs-shard-0", shards.get(0).getName());
+        Assert.assertEquals(Collections.singleton("a.pem"), shards.get(0).getData().keySet());
+        Assert.assertEquals("certs-shard-1", shards.get(1).getName());
+        Assert.assertEquals(Arrays.asList("b.pem", "c.pem"), new ArrayList<>(shards.get(1).getData().keySet()));
+        Assert.assertEquals("/certs", shards.get(1).getMountPath());
+        Assert.assertEquals(Collections.singleton(configMapModel), kubernetesDataHolder.getConfigMaps());
+        Assert.assertTrue(deploymentModel.isProjectedVolumes());
+    }
+
+    @Test
+    public void testShardConfigsWithinLimit() throws KubernetesPluginException {
+        SecretModel secretModel = createSecretModel("certs", "/certs", "keystore");
+        KubernetesDataHolder kubernetesDataHolder = new KubernetesDataHolder();
+        kubernetesDataHolder.addSecrets(Collections.singleton(secretModel));
+        DeploymentModel deploymentModel = new DeploymentModel();
+        annotationProcessor.shardConfigs(kubernetesDataHolder, deploymentModel);
+        Assert.assertEquals(Collections.singleton(secretModel), kubernetesDataHolder.getSecrets());
+        Assert.assertFalse(deploymentModel.isProjectedVolumes());
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testShardConfigsWithOversizedFile() throws KubernetesPluginException {
+        // 12 bytes of binary data are 16 bytes when base64 encoded, which exceeds the limit with the key.
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("config");
+        configMapModel.getBinaryData().put("d.bin", new byte[12]);
+        KubernetesDataHolder kubernetesDataHolder = new KubernetesDataHolder();
+        kubernetesDataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setMaxConfigSize(20);
+        annotationProcessor.shardConfigs(kubernetesDataHolder, deploymentModel);
+    }
+
+    @Test
+    public void testSetContentHashNames() throws IOException, KubernetesPluginException {
+        SecretModel secretModel = createSecretModel("keystore", "/home/ballerina/security", "keystore");
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("ballerina-config");
+        configMapModel.setMountPath("/home/ballerina/conf");
+        configMapModel.getData().put("ballerina.conf", "[b7a.log]\nlevel=INFO");
+        String secretHash = KubernetesUtils.getContentHash(secretModel.getData());
+        String configMapHash = KubernetesUtils.getContentHash(configMapModel.getData(), configMapModel.getBinaryData());
+        Set<SecretModel> secretModels = Collections.singleton(secretModel);
+        Set<ConfigMapModel> configMapModels = Collections.singleton(configMapModel);
+        annotationProcessor.setContentHashNames(secretModels, configMapModels);
+        Assert.assertEquals("keystore-" + secretHash, secretModel.getName());
+        Assert.assertTrue(secretModel.isImmutable());
+        Assert.assertEquals("ballerina-config-" + configMapHash, configMapModel.getName());
+        Assert.assertTrue(configMapModel.isImmutable());
+
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "TestAPP");
+        deploymentModel.setImage("SampleImage:v1.0.0");
+        deploymentModel.setSecretModels(secretModels);
+        deploymentModel.setConfigMapModels(configMapModels);
+        Deployment deployment = SerializationUtils.getMapper().readValue(new DeploymentHandler(deploymentModel)
+                .generate(), Deployment.class);
+        List<String> secretNames = new ArrayList<>();
+        List<String> configMapNames = new ArrayList<>();
+        for (Volume volume : deployment.getSpec().getTemplate().getSpec().getVolumes()) {
+            if (volume.getSecret() != null) {
+                secretNames.add(volume.getSecret().getSecretName());
+            }
+            if (volume.getConfigMap() != null) {
+                configMapNames.add(volume.getConfigMap().getName());
+            }
+        }
+        Assert.assertEquals(Collections.singletonList(secretModel.getName()), secretNames);
+        Assert.assertEquals(Collections.singletonList(configMapModel.getName()), configMapNames);
+    }
+
+    @Test
+    public void testReadDataFilesOfDirectory() throws IOException, KubernetesPluginException {
+        File confDir = createDataFiles();
+        Map<String, byte[]> contents = annotationProcessor.readDataFiles(createDataPaths(confDir.getPath()));
+        Assert.assertEquals(Arrays.asList("app.properties", "ballerina.conf", "db.properties"),
+                new ArrayList<>(contents.keySet()));
+        Assert.assertEquals("app", new String(contents.get("app.properties"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReadDataFilesOfGlobPattern() throws IOException, KubernetesPluginException {
+        File confDir = createDataFiles();
+        Map<String, byte[]> contents = annotationProcessor.readDataFiles(
+                createDataPaths(confDir.getPath() + "/*.properties"));
+        Assert.assertEquals(Arrays.asList("app.properties", "db.properties"), new ArrayList<>(contents.keySet()));
+    }
+
+    @Test
+    public void testReadDataFilesOfRecursiveGlobPattern() throws IOException, KubernetesPluginException {
+        File confDir = createDataFiles();
+        Map<String, byte[]> contents = annotationProcessor.readDataFiles(
+                createDataPaths(confDir.getPath() + "/**.properties"));
+        Assert.assertEquals(Arrays.asList("app.properties", "db.properties", "log.properties"),
+                new ArrayList<>(contents.keySet()));
+        Assert.assertEquals("log", new String(contents.get("log.properties"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReadDataFilesKeyOrder() throws IOException, KubernetesPluginException {
+        File confDir = createDataFiles();
+        Map<String, byte[]> contents = annotationProcessor.readDataFiles(createDataPaths(
+                confDir.getPath() + File.separator + "db.properties",
+                confDir.getPath() + File.separator + "ballerina.conf",
+                confDir.getPath() + File.separator + "app.properties"));
+        Assert.assertEquals(Arrays.asList("app.properties", "ballerina.conf", "db.properties"),
+                new ArrayList<>(contents.keySet()));
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testReadDataFilesOfUnmatchedGlobPattern() throws IOException, KubernetesPluginException {
+        File confDir = createDataFiles();
+        annotationProcessor.readDataFiles(createDataPaths(confDir.getPath() + "/*.yaml"));
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testReadDataFilesOfEmptyDirectory() throws IOException, KubernetesPluginException {
+        annotationProcessor.readDataFiles(createDataPaths(tempFolder.newFolder("empty").getPath()));
+    }
+
+    @Test(expected = KubernetesPluginException.class)
+    public void testReadDataFilesWithDuplicateFileName() throws IOException, KubernetesPluginException {
+        File confDir = createDataFiles();
+        File logDir = new File(confDir, "log");
+        Files.write(new File(logDir, "app.properties").toPath(), "log app".getBytes(StandardCharsets.UTF_8));
+        annotationProcessor.readDataFiles(createDataPaths(confDir.getPath() + "/**.properties"));
+    }
+
+    private ServiceModel createServiceModel(String name, String portName, int port) {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName(name);
+        serviceModel.setPortName(portName);
+        serviceModel.setPort(port);
+        serviceModel.setServiceType("ClusterIP");
+        serviceModel.setConsolidate(true);
+        return serviceModel;
+    }
+
+    /**
+     * Create a conf directory with app.properties, db.properties, ballerina.conf and log/log.properties.
+     *
+     * @return conf directory
+     * @throws IOException if a file cannot be written
+     */
+    private File createDataFiles() throws IOException {
+        File confDir = tempFolder.newFolder("conf");
+        File logDir = new File(confDir, "log");
+        Assert.assertTrue(logDir.mkdir());
+        Files.write(new File(confDir, "db.properties").toPath(), "db".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(confDir, "app.properties").toPath(), "app".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(confDir, "ballerina.conf").toPath(), "conf".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(logDir, "log.properties").toPath(), "log".getBytes(StandardCharsets.UTF_8));
+        return confDir;
+    }
+
+    private List<BLangExpression> createDataPaths(String... dataPaths) {
+        List<BLangExpression> data = new ArrayList<>();
+        for (String dataPath : dataPaths) {
+            BLangLiteral bLangLiteral = new BLangLiteral();
+            bLangLiteral.value = dataPath;
+            data.add(bLangLiteral);
+        }
+        return data;
+    }
+
+    private SecretModel createSecretModel(String name, String mountPath, String content) {
+        SecretModel secretModel = new SecretModel();
+        secretModel.setName(name);
+        secretModel.setMountPath(mountPath);
+        secretModel.setType("Opaque");
+        Map<String, String> data = new HashMap<>();
+        data.put("ballerina.p12", content);
+        secretModel.setData(data);
+        return secretModel;
+    }
+}